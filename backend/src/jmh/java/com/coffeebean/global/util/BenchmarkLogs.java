@@ -0,0 +1,44 @@
+package com.coffeebean.global.util;
+
+import java.io.OutputStream;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+
+/**
+ * 벤치마크용 로그 설정
+ * 로그 비용(이벤트 생성, 메시지 포맷, 패턴 인코딩)은 측정하되 콘솔/파일 I/O는 빼기 위해 버리는 스트림에 쓴다.
+ */
+final class BenchmarkLogs {
+
+	private BenchmarkLogs() {
+	}
+
+	static void discard(Level level, String... loggerNames) {
+		LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern("%d{ISO8601} %-5level [%thread] %logger{36} - %msg%n");
+		encoder.start();
+
+		OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+		appender.setContext(context);
+		appender.setEncoder(encoder);
+		appender.setOutputStream(OutputStream.nullOutputStream());
+		appender.start();
+
+		for (String loggerName : loggerNames) {
+			Logger logger = context.getLogger(loggerName);
+			logger.detachAndStopAllAppenders();
+			logger.setLevel(level);
+			logger.setAdditive(false);
+			logger.addAppender(appender);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.coffeebean.global.util;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * 쿠키 수에 따른 토큰 쿠키 추출 비용 (토큰 쿠키를 마지막에 두어 최악의 경우 측정)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CookieExtractionBenchmark {
+
+	@Param({"1", "8", "32"})
+	private int cookieCount;
+
+	private MockHttpServletRequest request;
+
+	@Setup
+	public void setUp() {
+		Cookie[] cookies = new Cookie[cookieCount];
+		for (int i = 0; i < cookieCount - 1; i++) {
+			cookies[i] = new Cookie("cookie" + i, "value" + i);
+		}
+		cookies[cookieCount - 1] = new Cookie("token", "header.payload.signature");
+		request = new MockHttpServletRequest();
+		request.setCookies(cookies);
+	}
+
+	@Benchmark
+	public Optional<String> getJwtFromCookies() {
+		return JwtUtil.getJwtFromCookies(request);
+	}
+}
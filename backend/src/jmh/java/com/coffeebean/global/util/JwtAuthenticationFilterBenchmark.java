@@ -0,0 +1,184 @@
+package com.coffeebean.global.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.coffeebean.global.annotation.LoginUserArgumentResolver;
+import com.coffeebean.global.audit.RequestAuditLogger;
+
+import ch.qos.logback.classic.Level;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 인증 필터 요청당 비용 (회원 1,000명이 번갈아 요청, 요청마다 쿠키 4개)
+ * - legacyFilter: 변경 전 필터 (요청마다 키/파서 생성, 쿠키/토큰/클레임/인증 객체 INFO 로그)
+ * - filter: 현재 필터 (검증 캐시, 1% 샘플링 감사 로그)
+ * - filterAndResolveLoginUser: 현재 필터 + @Login 파라미터 해석 (컨트롤러 진입까지)
+ * 로그는 버리는 스트림에 인코딩까지만 한다 (BenchmarkLogs).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+	private static final int USERS = 1_000;
+	private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+	};
+
+	private MockHttpServletRequest[] requests;
+	private MockHttpServletResponse response;
+	private int next;
+
+	private LegacyFilter legacyFilter;
+	private JwtAuthenticationFilterFromCookie filter;
+	private LoginUserArgumentResolver loginUserArgumentResolver;
+
+	@Setup
+	public void setUp() {
+		BenchmarkLogs.discard(Level.INFO, LegacyFilter.class.getName(), RequestAuditLogger.class.getName());
+
+		requests = new MockHttpServletRequest[USERS];
+		for (int i = 0; i < USERS; i++) {
+			requests[i] = new MockHttpServletRequest("GET", "/api/v1/items");
+			requests[i].setCookies(new Cookie("JSESSIONID", "session-" + i), new Cookie("theme", "dark"),
+				new Cookie("token", JwtUtil.createToken(Map.of("email", "user" + i + "@test.com", "id", (long)i))),
+				new Cookie("locale", "ko-KR"));
+		}
+		response = new MockHttpServletResponse();
+
+		JwtAuthenticator authenticator = new JwtAuthenticator(10_000, 600);
+		legacyFilter = new LegacyFilter();
+		filter = new JwtAuthenticationFilterFromCookie(authenticator, new RequestAuditLogger(0.01, 50));
+		loginUserArgumentResolver = new LoginUserArgumentResolver(authenticator);
+	}
+
+	// 다음 회원의 요청 (이전 요청의 속성, 인증 정보는 지움)
+	private MockHttpServletRequest nextRequest() {
+		SecurityContextHolder.clearContext();
+		MockHttpServletRequest request = requests[next];
+		next = (next + 1) % USERS;
+		request.clearAttributes();
+		return request;
+	}
+
+	@Benchmark
+	public Object legacyFilter() throws Exception {
+		legacyFilter.doFilter(nextRequest(), response, NO_OP_CHAIN);
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+
+	@Benchmark
+	public Object filter() throws Exception {
+		filter.doFilter(nextRequest(), response, NO_OP_CHAIN);
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+
+	@Benchmark
+	public Object filterAndResolveLoginUser() throws Exception {
+		MockHttpServletRequest request = nextRequest();
+		filter.doFilter(request, response, NO_OP_CHAIN);
+		return loginUserArgumentResolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+	}
+
+	// 변경 전 필터 (요청마다 키/파서를 만들고 쿠키, 토큰, 클레임, 인증 객체를 INFO로 남김)
+	static class LegacyFilter extends OncePerRequestFilter {
+
+		private static final Logger log = LoggerFactory.getLogger(LegacyFilter.class);
+		private static final String SECRET_KEY = "676e27c6-60e8-49c7-8c0f-adf8e7ecaa2e";
+
+		@Override
+		protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain) throws ServletException, IOException {
+			try {
+				Optional<String> token = getJwtFromCookies(request);
+				log.info("JWT Token={}", token.orElse("No Token Found"));
+
+				if (token.isPresent()) {
+					Map<String, Object> claims = getPayload(token.get());
+					log.info("JWT Claims={}", claims);
+
+					if (!claims.containsKey("email")) {
+						throw new JwtException("유효하지 않은 토큰입니다.");
+					}
+					if (claims.containsKey("role")) {
+						filterChain.doFilter(request, response);
+						return;
+					}
+
+					Long userId = ((Number)claims.get("id")).longValue();
+					String email = (String)claims.get("email");
+					CustomUserDetails customUserDetails = new CustomUserDetails(userId, email);
+					log.info("customUserDetails={}", customUserDetails);
+
+					Authentication authentication = new UsernamePasswordAuthenticationToken(customUserDetails,
+						null, Collections.emptyList());
+					log.info("authentication={}", authentication);
+
+					SecurityContextHolder.getContext().setAuthentication(authentication);
+				}
+				filterChain.doFilter(request, response);
+			} catch (JwtException e) {
+				filterChain.doFilter(request, response);
+			}
+		}
+
+		private static Optional<String> getJwtFromCookies(HttpServletRequest request) {
+			Cookie[] cookies = request.getCookies();
+			if (cookies == null || cookies.length == 0) {
+				return Optional.empty();
+			}
+			Arrays.stream(cookies)
+				.forEach(cookie -> log.info("Cookie Name: {}, Value: {}", cookie.getName(), cookie.getValue()));
+			return Arrays.stream(cookies)
+				.filter(cookie -> "token".equals(cookie.getName()))
+				.map(Cookie::getValue)
+				.findFirst();
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Map<String, Object> getPayload(String token) {
+			SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+			return (Map<String, Object>)Jwts.parser()
+				.verifyWith(secretKey)
+				.build()
+				.parse(token)
+				.getPayload();
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.coffeebean.global.util;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 토큰 생성/파싱 비용
+ * - createToken: 로그인 시 토큰 발급
+ * - getClaims: 서명 검증 + 파싱 (캐시에 없는 토큰)
+ * - verifyCached: JwtAuthenticator 캐시 적중 (필터에서 대부분의 요청이 거치는 경로)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+	private Map<String, Object> claims;
+	private String token;
+	private JwtAuthenticator authenticator;
+
+	@Setup
+	public void setUp() {
+		claims = Map.of("email", "user@test.com", "id", 1L);
+		token = JwtUtil.createToken(claims);
+		authenticator = new JwtAuthenticator(10_000, 600);
+		authenticator.verify(token);
+	}
+
+	@Benchmark
+	public String createToken() {
+		return JwtUtil.createToken(claims);
+	}
+
+	@Benchmark
+	public Map<String, Object> getClaims() {
+		return JwtUtil.getClaims(token);
+	}
+
+	@Benchmark
+	public Object verifyCached() {
+		return authenticator.verify(token);
+	}
+}
@@ -6,12 +6,17 @@ import com.coffeebean.domain.item.entity.Item;
 import com.coffeebean.domain.item.service.ItemService;
 import com.coffeebean.domain.question.question.dto.QuestionDto;
 import com.coffeebean.domain.question.question.service.QuestionService;
-import com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto;
+import com.coffeebean.domain.review.review.ReviewSort;
+import com.coffeebean.domain.review.review.entity.ReviewPageDto;
+import com.coffeebean.domain.review.review.entity.ReviewSummaryDto;
+import com.coffeebean.domain.review.review.service.FileStorageService;
 import com.coffeebean.domain.review.review.service.ReviewService;
+import com.coffeebean.domain.review.review.service.ReviewSummaryService;
 import com.coffeebean.global.dto.RsData;
 import com.coffeebean.global.exception.ServiceException;
 import com.coffeebean.global.security.annotations.AdminOnly;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -22,51 +27,62 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.parameters.P;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/items")
 public class ApiV1ItemController {
 
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name", "price", "stockQuantity");
+
     private final ItemService itemService;
     private final QuestionService questionService;
     private final ReviewService reviewService;
+    private final ReviewSummaryService reviewSummaryService;
+    private final FileStorageService fileStorageService;
+
+    // 상품 이미지 업로드 - 요청 본문(이미지 바이트)을 그대로 저장 (multipart 임시 파일/메모리 버퍼링 없음)
+    // 반환된 파일명을 상품 등록의 imageFileName으로 사용
+    @AdminOnly
+    @PostMapping(value = "/images", consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE,
+            MediaType.IMAGE_GIF_VALUE, "image/webp"})
+    public RsData<String> uploadImage(HttpServletRequest request) throws IOException {
+        String fileName = fileStorageService.storeFile(request.getInputStream(), request.getContentLengthLong());
+
+        return new RsData<>(
+            "200-1",
+            "이미지가 업로드되었습니다.",
+            fileName
+        );
+    }
 
-    // 상품 등록 (선택적 이미지 파일 업로드)
+    // 상품 등록 (선택적 이미지 - multipart 파일 또는 /images로 미리 올린 파일명)
     @AdminOnly
     @PostMapping
     public RsData<Item> addItem(@NotBlank(message = "상품명을 입력하세요") @RequestParam("name") String name,
         @NotNull(message = "가격을 입력하세요") @Min(value = 1, message = "가격은 1 이상이어야 합니다.") @RequestParam("price") int price,
         @RequestParam("stockQuantity") int stockQuantity,
         @RequestParam("description") String description,
-        @RequestParam("image") MultipartFile image) throws IOException {
+        @RequestParam(value = "image", required = false) MultipartFile image,
+        @RequestParam(value = "imageFileName", required = false) String imageFileName) {
 
+        // 원본은 업로드 디렉토리에 저장하고 썸네일/압축본은 비동기로 생성
         String fileName = null;
-
-        if (!image.isEmpty()) {
-            String uploadDir = "src/main/resources/static/";
-            File uploadDirFile = new File(uploadDir);
-
-            if (!uploadDirFile.exists()) {
-                uploadDirFile.mkdirs();
-            }
-
-            fileName = image.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir + fileName);
-
-            image.transferTo(filePath);
+        if (image != null && !image.isEmpty()) {
+            fileName = fileStorageService.storeFile(image);
+        } else if (imageFileName != null && !imageFileName.isBlank()) {
+            fileName = fileStorageService.useStoredFile(imageFileName);
         }
 
         Item item = itemService.addItem(name, price, stockQuantity, description, fileName);
@@ -86,12 +102,16 @@ public class ApiV1ItemController {
             @RequestParam(defaultValue = "id") String sortBy,
             @RequestParam(defaultValue = "asc") String direction
     ) {
+        if (!SORTABLE_PROPERTIES.contains(sortBy)) {
+            throw new ServiceException("400-1", "정렬할 수 없는 항목입니다.");
+        }
+
         Sort sort = direction.equalsIgnoreCase("desc")
                 ? Sort.by(sortBy).descending()
                 : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<ItemDto> items = itemService.getItems(pageable).map(ItemDto::new);
+        Page<ItemDto> items = itemService.getItemDtos(pageable);
 
         return new RsData<>(
                 "200-1",
@@ -100,18 +120,31 @@ public class ApiV1ItemController {
         );
     }
 
+    // 상품 검색 - 상품명/설명 (관련도 순, 검색어 n-gram 조각 중 일정 비율 이상 겹치면 일치 - NGramAnalyzer, minShouldMatch)
+    @GetMapping("/search")
+    public RsData<List<ItemDto>> searchItems(@RequestParam("q") String query,
+                                             @RequestParam(defaultValue = "20") int size) {
+        List<ItemDto> items = itemService.searchItems(query, size);
+
+        return new RsData<>(
+                "200-1",
+                "상품 검색 결과 %d건이 조회되었습니다.".formatted(items.size()),
+                items
+        );
+    }
+
     // 상품 단건 조회
     @GetMapping("/{id}")
     public RsData<ItemDto> getItem(@PathVariable long id) {
 
-        Item item = itemService.getItem(id).orElseThrow(
+        ItemDto item = itemService.getItemDto(id).orElseThrow(
                 () -> new ServiceException("404-1", "존재하지 않는 상품입니다.")
         );
 
         return new RsData<>(
                 "200-1",
                 "%s가 조회 되었습니다.".formatted(item.getName()),
-                new ItemDto(item)
+                item
         );
     }
 
@@ -198,10 +231,13 @@ public class ApiV1ItemController {
         );
     }
 
-    // 상품 상세 페이지 상품 id로 리뷰 조회
+    // 상품 상세 페이지 상품 id로 리뷰 조회 (sort: newest | rating, cursor: 이전 응답의 nextCursor)
     @GetMapping("/{id}/reviews")
-    public RsData<List<ReviewDetailNotImageDto>> getReviewsByItemId(@PathVariable Long id) {
-        List<ReviewDetailNotImageDto> reviews = reviewService.getReviewsByItemId(id);
+    public RsData<ReviewPageDto> getReviewsByItemId(@PathVariable Long id,
+                                                    @RequestParam(required = false) String sort,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer size) {
+        ReviewPageDto reviews = reviewService.getReviewsByItemId(id, ReviewSort.from(sort), cursor, size);
         return new RsData<>(
                 "200-1",
                 "리뷰가 조회되었습니다",
@@ -209,11 +245,22 @@ public class ApiV1ItemController {
         );
     }
 
+    // 상품 상세 페이지 별점 요약 (리뷰 수, 평균, 별점별 개수)
+    @GetMapping("/{id}/reviews/summary")
+    public RsData<ReviewSummaryDto> getReviewSummary(@PathVariable Long id) {
+        return new RsData<>(
+                "200-1",
+                "리뷰 요약이 조회되었습니다",
+                reviewSummaryService.getSummary(id)
+        );
+    }
+
     // 리뷰 전체 조회 - 관리자
     @GetMapping("/reviews")
-    public RsData<List<ReviewDetailNotImageDto>> getReviews() {
-        System.out.println("admin");
-        List<ReviewDetailNotImageDto> reviews = reviewService.getAllReviews();
+    public RsData<ReviewPageDto> getReviews(@RequestParam(required = false) String sort,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer size) {
+        ReviewPageDto reviews = reviewService.getAllReviews(ReviewSort.from(sort), cursor, size);
         return new RsData<>(
                 "200-1",
                 "리뷰 목록 조회가 완료되었습니다.",
@@ -1,6 +1,7 @@
 package com.coffeebean.domain.item.dto;
 
 import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.global.image.ImageVariant;
 import lombok.Getter;
 import lombok.NonNull;
 
@@ -18,7 +19,22 @@ public class ItemDto {
 
     private String description; // 상품 설명
 
-    private String imageUrl;
+    private String imageUrl; // 원본
+
+    private String thumbnailUrl; // 목록용 썸네일
+
+    private String mediumUrl; // 상세용 압축본
+
+    private ItemDto(ItemDto source, int stockQuantity) {
+        this.id = source.id;
+        this.name = source.name;
+        this.price = source.price;
+        this.stockQuantity = stockQuantity;
+        this.description = source.description;
+        this.imageUrl = source.imageUrl;
+        this.thumbnailUrl = source.thumbnailUrl;
+        this.mediumUrl = source.mediumUrl;
+    }
 
     public ItemDto(Item item) {
         this.id = item.getId();
@@ -27,5 +43,12 @@ public class ItemDto {
         this.stockQuantity = item.getStockQuantity();
         this.description = item.getDescription();
         this.imageUrl = item.getImageUrl();
+        this.thumbnailUrl = ImageVariant.THUMBNAIL.url(item.getImageUrl());
+        this.mediumUrl = ImageVariant.MEDIUM.url(item.getImageUrl());
+    }
+
+    // 재고만 바꾼 사본 (캐시된 상품 정보에 최신 재고를 덮어쓸 때 사용)
+    public ItemDto withStockQuantity(int stockQuantity) {
+        return stockQuantity == this.stockQuantity ? this : new ItemDto(this, stockQuantity);
     }
 }
@@ -0,0 +1,5 @@
+package com.coffeebean.domain.item.dto;
+
+// 상품 재고만 조회할 때 사용 (재고 캐시 일괄 적재용)
+public record ItemStockDto(Long id, int stockQuantity) {
+}
@@ -2,14 +2,14 @@ package com.coffeebean.domain.item.entity;
 
 import java.net.URI;
 
-import com.coffeebean.global.exception.ServiceException;
-
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +23,7 @@ import lombok.Setter;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_item_image_file_name", columnList = "image_file_name")) // 업로드 파일 참조 확인용
 public class Item {
 
 	@Id
@@ -38,14 +39,9 @@ public class Item {
 
 	private String imageUrl; // 상품 이미지
 
+	private String imageFileName; // 업로드 파일명 (imageUrl의 파일, 업로드 파일이 아니면 null)
+
 	@Lob
 	@Column(columnDefinition = "TEXT")
 	private String description;    // 상품 설명
-
-	public void reduceStock(int count) {
-		if (stockQuantity < count) {
-			throw new ServiceException("400-3", "재고가 충분하지 않습니다. 상품 수량을 확인하세요.");
-		}
-		stockQuantity -= count;
-	}
 }
@@ -1,7 +1,28 @@
 package com.coffeebean.domain.item.repository;
 
+import com.coffeebean.domain.item.dto.ItemStockDto;
 import com.coffeebean.domain.item.entity.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
-}
\ No newline at end of file
+
+    // 재고가 충분할 때만 차감하는 조건부 UPDATE (반환값: 차감된 행 수, 0이면 재고 부족)
+    @Modifying
+    @Query("update Item i set i.stockQuantity = i.stockQuantity - :count " +
+            "where i.id = :id and i.stockQuantity >= :count")
+    int decreaseStock(@Param("id") Long id, @Param("count") int count);
+
+    // 여러 상품의 현재 재고 일괄 조회
+    @Query("select new com.coffeebean.domain.item.dto.ItemStockDto(i.id, i.stockQuantity) from Item i where i.id in :ids")
+    List<ItemStockDto> findStockQuantitiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 업로드 파일명 중 상품이 참조하는 파일명 (idx_item_image_file_name)
+    @Query("select distinct i.imageFileName from Item i where i.imageFileName in :fileNames")
+    List<String> findImageFileNamesIn(@Param("fileNames") Collection<String> fileNames);
+}
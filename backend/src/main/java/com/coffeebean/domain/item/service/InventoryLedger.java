@@ -0,0 +1,216 @@
+package com.coffeebean.domain.item.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한정 판매용 인메모리 재고 장부
+ * 상품별 AtomicInteger 카운터로 재고를 선점/반환하고, 확정된 차감분은 모아 두었다가
+ * InventoryLedgerScheduler가 주기적으로 DB에 일괄 반영한다.
+ * 관리자가 재고를 지정하면 상품의 카운터를 새로 만들고(세대 교체), 이전 세대에서 선점한 주문의 반환/확정은 무시한다.
+ * inventory.ledger.enabled=true 일 때만 동작한다 (단일 인스턴스 전제).
+ * DB에 반영되지 않은 차감분은 메모리에만 있으므로 서버가 비정상 종료되면 최대 반영 주기만큼의 차감분이 유실된다
+ * (해당 주문은 저장되었지만 DB 재고는 차감되지 않음). 정상 종료 시에는 종료 전에 남은 차감분을 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryLedger {
+
+	private final ItemRepository itemRepository;
+
+	@Value("${inventory.ledger.enabled:false}")
+	private boolean enabled;
+
+	private final Map<Long, Stock> stocks = new ConcurrentHashMap<>(); // 상품별 현재 세대의 재고
+	private final ReentrantLock reconcileLock = new ReentrantLock(); // 차감분 DB 반영과 관리자 재고 지정을 직렬화
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// 애플리케이션 기동 시 DB 재고로 장부 초기화
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (!enabled) {
+			return;
+		}
+
+		for (Item item : itemRepository.findAll()) {
+			stocks.put(item.getId(), new Stock(item.getStockQuantity()));
+		}
+		log.info("인메모리 재고 장부 초기화 완료: {}개 상품", stocks.size());
+	}
+
+	/**
+	 * 재고 선점 (전부 성공하거나 전부 실패)
+	 * 장부에 없는 상품(존재하지 않는 상품)은 선점 대상에서 제외하고 DB 단계에서 검증한다.
+	 *
+	 * @return 선점 결과, 재고가 부족하면 Optional.empty()
+	 */
+	public Optional<Reservation> reserve(Map<Long, Integer> counts) {
+		if (!enabled) {
+			return Optional.of(Reservation.EMPTY);
+		}
+
+		Map<Long, Integer> reserved = new LinkedHashMap<>();
+		Map<Long, Stock> reservedStocks = new LinkedHashMap<>();
+		for (Long itemId : new TreeSet<>(counts.keySet())) {
+			Stock stock = getOrLoad(itemId);
+			if (stock == null) {
+				continue;
+			}
+
+			int count = counts.get(itemId);
+			if (!tryDecrement(stock.available, count)) {
+				release(new Reservation(reserved, reservedStocks));
+				return Optional.empty();
+			}
+			reserved.put(itemId, count);
+			reservedStocks.put(itemId, stock);
+		}
+		return Optional.of(new Reservation(reserved, reservedStocks));
+	}
+
+	// 주문 실패 시 선점한 재고 반환 (선점 후 관리자가 재고를 지정했으면 이전 세대에 반환되므로 영향 없음)
+	public void release(Reservation reservation) {
+		reservation.stocks().forEach((itemId, stock) -> stock.available.addAndGet(reservation.counts().get(itemId)));
+	}
+
+	// 주문 확정 시 DB 반영 대기 목록에 추가 (선점 후 관리자가 재고를 지정했으면 지정한 값이 기준이므로 반영하지 않음)
+	public void confirm(Reservation reservation) {
+		reservation.stocks().forEach((itemId, stock) -> stock.pending.addAndGet(reservation.counts().get(itemId)));
+	}
+
+	// DB에 반영할 차감분을 꺼내고 0으로 초기화 (현재 세대만)
+	public Map<Long, Integer> drainPending() {
+		Map<Long, Integer> drained = new LinkedHashMap<>();
+		stocks.forEach((itemId, stock) -> {
+			int value = stock.pending.getAndSet(0);
+			if (value > 0) {
+				drained.put(itemId, value);
+			}
+		});
+		return drained;
+	}
+
+	// DB 반영 실패 시 차감분을 다시 대기 목록으로 되돌림 (reconcile 안에서 호출하므로 그 사이 세대가 바뀌지 않음)
+	public void restorePending(Map<Long, Integer> deltas) {
+		deltas.forEach((itemId, count) -> {
+			Stock stock = stocks.get(itemId);
+			if (stock != null) {
+				stock.pending.addAndGet(count);
+			}
+		});
+	}
+
+	/**
+	 * 관리자가 재고를 직접 지정한 경우 (DB 값이 기준이 되므로 미반영 차감분은 폐기)
+	 * 트랜잭션 안에서 호출하면 커밋 후에 반영하고(롤백되면 반영하지 않음), 트랜잭션이 끝날 때까지 DB 반영(reconcile)을 막는다.
+	 * 이미 꺼낸 차감분이 관리자가 지정한 재고 위에 다시 차감되지 않도록 하기 위함이다.
+	 */
+	public void reset(Long itemId, int stockQuantity) {
+		if (!enabled) {
+			return;
+		}
+
+		reconcileLock.lock();
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			try {
+				applyReset(itemId, stockQuantity);
+			} finally {
+				reconcileLock.unlock();
+			}
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				applyReset(itemId, stockQuantity);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				reconcileLock.unlock();
+			}
+		});
+	}
+
+	// 차감분 DB 반영 (관리자 재고 지정 트랜잭션이 끝날 때까지 대기)
+	public void reconcile(Runnable task) {
+		reconcileLock.lock();
+		try {
+			task.run();
+		} finally {
+			reconcileLock.unlock();
+		}
+	}
+
+	// 새 세대로 교체 - 이전 세대의 미반영 차감분과 선점분은 함께 버려짐
+	private void applyReset(Long itemId, int stockQuantity) {
+		stocks.put(itemId, new Stock(stockQuantity));
+	}
+
+	public void remove(Long itemId) {
+		stocks.remove(itemId);
+	}
+
+	private Stock getOrLoad(Long itemId) {
+		Stock stock = stocks.get(itemId);
+		if (stock != null) {
+			return stock;
+		}
+
+		return itemRepository.findById(itemId)
+			.map(item -> stocks.computeIfAbsent(itemId, id -> new Stock(item.getStockQuantity())))
+			.orElse(null);
+	}
+
+	private boolean tryDecrement(AtomicInteger stock, int count) {
+		while (true) {
+			int current = stock.get();
+			if (current < count) {
+				return false;
+			}
+			if (stock.compareAndSet(current, current - count)) {
+				return true;
+			}
+		}
+	}
+
+	// 한 세대의 재고 - 선점 가능한 재고와 주문 확정 후 DB 미반영 차감분
+	static final class Stock {
+
+		private final AtomicInteger available;
+		private final AtomicInteger pending = new AtomicInteger();
+
+		private Stock(int stockQuantity) {
+			this.available = new AtomicInteger(stockQuantity);
+		}
+	}
+
+	// 선점 결과 - 선점한 세대를 함께 기억해 반환/확정이 항상 그 세대에 적용되게 함
+	public record Reservation(Map<Long, Integer> counts, Map<Long, Stock> stocks) {
+		public static final Reservation EMPTY = new Reservation(Collections.emptyMap(), Collections.emptyMap());
+	}
+}
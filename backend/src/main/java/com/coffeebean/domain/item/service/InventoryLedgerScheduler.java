@@ -0,0 +1,42 @@
+package com.coffeebean.domain.item.service;
+
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryLedgerScheduler {
+
+	private final InventoryLedger inventoryLedger;
+	private final ItemService itemService;
+
+	// 인메모리 장부에서 확정된 재고 차감분을 DB에 일괄 반영 (종료 시 남은 차감분도 반영)
+	@PreDestroy
+	@Scheduled(fixedDelayString = "${inventory.ledger.reconcile-delay-ms:1000}")
+	public void reconcile() {
+		if (!inventoryLedger.isEnabled()) {
+			return;
+		}
+
+		inventoryLedger.reconcile(() -> {
+			Map<Long, Integer> deltas = inventoryLedger.drainPending();
+			if (deltas.isEmpty()) {
+				return;
+			}
+
+			try {
+				itemService.applyReservedStock(deltas);
+			} catch (Exception e) {
+				log.warn("재고 차감분 DB 반영 실패, 다음 주기에 재시도합니다. deltas={}", deltas, e);
+				inventoryLedger.restorePending(deltas);
+			}
+		});
+	}
+}
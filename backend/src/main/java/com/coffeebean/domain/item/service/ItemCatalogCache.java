@@ -0,0 +1,101 @@
+package com.coffeebean.domain.item.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 상품 조회 캐시 (크기 제한 + TTL, Caffeine W-TinyLFU 방출)
+ * 상품 정보와 목록 페이지는 관리자 수정 시에만 바뀌므로 길게 캐시하고, 주문마다 바뀌는 재고는 짧은 TTL로 따로 캐시한다.
+ * 무효화는 트랜잭션 종료 후에도 한 번 더 수행해 커밋 전 다른 요청이 이전 값을 다시 적재하거나
+ * 롤백된 변경이 캐시에 남는 경우를 막는다.
+ */
+@Component
+public class ItemCatalogCache {
+
+	private final Cache<Long, ItemDto> items;
+	private final Cache<Pageable, Page<ItemDto>> pages;
+	private final Cache<Long, Integer> stocks;
+
+	public ItemCatalogCache(@Value("${item.cache.max-size:10000}") long maxSize,
+		@Value("${item.cache.page-max-size:200}") long pageMaxSize,
+		@Value("${item.cache.ttl-seconds:600}") long ttlSeconds,
+		@Value("${item.cache.stock-ttl-ms:2000}") long stockTtlMillis) {
+		this.items = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+		this.pages = Caffeine.newBuilder()
+			.maximumSize(pageMaxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+		this.stocks = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofMillis(stockTtlMillis))
+			.build();
+	}
+
+	// 없는 상품(null)은 캐시하지 않음
+	public Optional<ItemDto> getItem(long id, Function<Long, ItemDto> loader) {
+		return Optional.ofNullable(items.get(id, loader));
+	}
+
+	// 재고순 페이지는 주문마다 순서가 바뀌므로 캐시하지 않음
+	public Page<ItemDto> getPage(Pageable pageable, Supplier<Page<ItemDto>> loader) {
+		if (pageable.getSort().getOrderFor("stockQuantity") != null) {
+			return loader.get();
+		}
+		return pages.get(pageable, key -> loader.get());
+	}
+
+	// 캐시에 없는 재고만 한 번에 조회
+	public Map<Long, Integer> getStocks(Collection<Long> ids,
+		Function<Collection<? extends Long>, Map<Long, Integer>> loader) {
+		return stocks.getAll(ids, loader::apply);
+	}
+
+	// 상품 수정/삭제 - 해당 상품과 재고
+	public void evictItem(long id) {
+		runNowAndAfterCompletion(() -> {
+			items.invalidate(id);
+			stocks.invalidate(id);
+		});
+	}
+
+	// 상품 추가/수정/삭제 - 이름/가격순 페이지는 다른 페이지로 옮겨갈 수 있으므로 모든 페이지 무효화
+	public void evictPages() {
+		runNowAndAfterCompletion(pages::invalidateAll);
+	}
+
+	// 재고 변경
+	public void evictStock(long id) {
+		runNowAndAfterCompletion(() -> stocks.invalidate(id));
+	}
+
+	private void runNowAndAfterCompletion(Runnable eviction) {
+		eviction.run();
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					eviction.run();
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.coffeebean.domain.item.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.global.search.InvertedIndex;
+import com.coffeebean.global.search.InvertedIndex.Field;
+import com.coffeebean.global.search.SearchIndexTransactions;
+
+/**
+ * 상품 검색 색인 (상품명 + 상품 설명, 한국어 n-gram)
+ * 상품명 조각에 더 큰 가중치를 줘 이름이 일치하는 상품이 설명만 일치하는 상품보다 먼저 나온다.
+ * 색인 변경은 트랜잭션 커밋 후에 반영해 롤백된 상품이 검색되지 않게 한다.
+ */
+@Component
+public class ItemSearchIndex {
+
+	private static final int NAME_WEIGHT = 3;
+	private static final int DESCRIPTION_WEIGHT = 1;
+
+	private final InvertedIndex index = new InvertedIndex();
+
+	// 상품 추가/수정 (트랜잭션 안이면 커밋 후 반영)
+	public void index(Item item) {
+		long id = item.getId();
+		List<Field> fields = List.of(
+			new Field(item.getName(), NAME_WEIGHT),
+			new Field(item.getDescription(), DESCRIPTION_WEIGHT)
+		);
+		SearchIndexTransactions.afterCommit(() -> index.put(id, fields));
+	}
+
+	// 상품 삭제 (트랜잭션 안이면 커밋 후 반영)
+	public void remove(long itemId) {
+		SearchIndexTransactions.afterCommit(() -> index.remove(itemId));
+	}
+
+	public void clear() {
+		index.clear();
+	}
+
+	public int size() {
+		return index.size();
+	}
+
+	// 검색어와 관련도가 높은 순으로 상품 ID 반환 (동점이면 ID 오름차순)
+	public List<Long> search(String query, int limit) {
+		return index.search(query, limit);
+	}
+}
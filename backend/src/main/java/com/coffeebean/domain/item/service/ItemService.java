@@ -1,38 +1,66 @@
 package com.coffeebean.domain.item.service;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.coffeebean.domain.item.dto.ItemStockDto;
 import com.coffeebean.domain.item.entity.Item;
 import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.review.review.service.FileStorageService;
 import com.coffeebean.global.exception.DataNotFoundException;
+import com.coffeebean.global.exception.ServiceException;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ItemService {
 
 	private final ItemRepository itemRepository;
+	private final InventoryLedger inventoryLedger;
+	private final ItemCatalogCache itemCatalogCache;
+	private final ItemSearchIndex itemSearchIndex;
+
+	@Value("${item.search.max-size:50}")
+	private int searchMaxSize;
+
+	private static final int SEARCH_INDEX_BATCH_SIZE = 1000;
 
 	// 상품 추가 로직
 	public Item addItem(String name, int price, int stockQuantity, String description, String fileName) {
 
-		return itemRepository.save(
+		Item item = itemRepository.save(
 			Item.builder()
 				.name(name)
 				.price(price)
 				.stockQuantity(stockQuantity)
 				.description(description)
-				.imageUrl("http://localhost:8080/" + fileName)
+				.imageUrl(fileName != null ? FileStorageService.FILE_URL_PREFIX + fileName : null)
+				.imageFileName(fileName)
 				.build()
 		);
+		inventoryLedger.reset(item.getId(), stockQuantity);
+		itemCatalogCache.evictPages();
+		itemSearchIndex.index(item);
+		return item;
 	}
 
 	// 전체 조회
@@ -50,9 +78,64 @@ public class ItemService {
 		return itemRepository.findById(id);
 	}
 
+	// 상품 목록 조회 (캐시) - 재고는 재고 캐시 값으로 덮어씀
+	public Page<ItemDto> getItemDtos(Pageable pageable) {
+		Page<ItemDto> page = itemCatalogCache.getPage(pageable,
+			() -> itemRepository.findAll(pageable).map(ItemDto::new));
+
+		List<Long> ids = page.getContent().stream()
+			.map(ItemDto::getId)
+			.toList();
+		Map<Long, Integer> stocks = getStockQuantities(ids);
+		return page.map(item -> item.withStockQuantity(stocks.getOrDefault(item.getId(), item.getStockQuantity())));
+	}
+
+	// 상품 단건 조회 (캐시) - 재고는 재고 캐시 값으로 덮어씀
+	public Optional<ItemDto> getItemDto(long id) {
+		return itemCatalogCache.getItem(id, key -> itemRepository.findById(key).map(ItemDto::new).orElse(null))
+			.map(item -> item.withStockQuantity(
+				getStockQuantities(List.of(id)).getOrDefault(id, item.getStockQuantity())));
+	}
+
+	// 재고 조회 (짧은 TTL 캐시, 캐시에 없는 상품만 IN 쿼리 한 번으로 조회)
+	private Map<Long, Integer> getStockQuantities(Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return Map.of();
+		}
+		return itemCatalogCache.getStocks(ids, missing -> itemRepository.findStockQuantitiesByIdIn(List.copyOf(missing))
+			.stream()
+			.collect(Collectors.toMap(ItemStockDto::id, ItemStockDto::stockQuantity)));
+	}
+
+	// 상품 검색 (관련도 순, 상품 정보는 캐시에서 조회)
+	public List<ItemDto> searchItems(String query, int size) {
+		return itemSearchIndex.search(query, Math.clamp(size, 1, searchMaxSize)).stream()
+			.map(this::getItemDto)
+			.flatMap(Optional::stream)
+			.toList();
+	}
+
+	// 기동 시 전체 상품으로 검색 색인 구성 (ID 순으로 나눠 읽어 한 번에 모든 상품을 영속성 컨텍스트에 올리지 않음)
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildSearchIndex() {
+		itemSearchIndex.clear();
+		Pageable pageable = PageRequest.of(0, SEARCH_INDEX_BATCH_SIZE, Sort.by("id"));
+		Page<Item> page;
+		do {
+			page = itemRepository.findAll(pageable);
+			page.forEach(itemSearchIndex::index);
+			pageable = page.nextPageable();
+		} while (page.hasNext());
+		log.info("상품 검색 색인 구성 완료. items={}", itemSearchIndex.size());
+	}
+
 	// 상품 삭제
 	public void deleteItem(Item item) {
 		itemRepository.delete(item);
+		inventoryLedger.remove(item.getId());
+		itemCatalogCache.evictItem(item.getId());
+		itemCatalogCache.evictPages();
+		itemSearchIndex.remove(item.getId());
 	}
 
 	// test를 위한 count
@@ -65,23 +148,77 @@ public class ItemService {
 		item.setPrice(price);
 		item.setStockQuantity(stockQuantity);
 		item.setDescription(description);
+		inventoryLedger.reset(item.getId(), stockQuantity);
+		itemCatalogCache.evictItem(item.getId());
+		itemCatalogCache.evictPages();
+		itemSearchIndex.index(item);
 		return item;
 	}
 
+	@Transactional
 	public void updateStockQuantity(Item item, int newStockQuntity) {
 		item.setStockQuantity(newStockQuntity);
 		itemRepository.save(item);
+		inventoryLedger.reset(item.getId(), newStockQuntity);
+		itemCatalogCache.evictStock(item.getId());
 	}
 
+	/**
+	 * 재고 차감 (주문 시 사용)
+	 * 조건부 UPDATE 한 번으로 검사와 차감을 함께 처리하므로 동시 주문에서도 초과 판매가 발생하지 않는다.
+	 * 영속성 컨텍스트에 이미 올라온 Item의 stockQuantity는 갱신되지 않는다.
+	 */
+	@Transactional
+	public void reserveStock(Long itemId, int count) {
+		// 인메모리 재고 장부 사용 시 재고는 이미 선점되었고, DB 차감은 InventoryLedgerScheduler가 일괄 반영
+		if (inventoryLedger.isEnabled()) {
+			return;
+		}
+
+		if (itemRepository.decreaseStock(itemId, count) == 0) {
+			throw new ServiceException("400-3", "재고가 충분하지 않습니다. 상품 수량을 확인하세요.");
+		}
+		itemCatalogCache.evictStock(itemId);
+	}
+
+	/**
+	 * 인메모리 재고 장부에서 확정된 차감분 일괄 반영
+	 * DB 재고가 차감분보다 적으면 장부와 DB가 어긋난 것이므로(초과 판매) 오류로 기록하고 장부를 DB 재고로 다시 맞춘다.
+	 */
+	@Transactional
+	public void applyReservedStock(Map<Long, Integer> deltas) {
+		deltas.forEach((itemId, count) -> {
+			if (itemRepository.decreaseStock(itemId, count) == 0) {
+				int stockQuantity = itemRepository.findById(itemId).map(Item::getStockQuantity).orElse(0);
+				log.error("DB 재고가 장부보다 적어 차감하지 못했습니다. 장부를 DB 재고로 맞춥니다. itemId={}, count={}, stock={}",
+					itemId, count, stockQuantity);
+				inventoryLedger.reset(itemId, stockQuantity);
+			}
+			itemCatalogCache.evictStock(itemId);
+		});
+	}
+
+	// 주문 상품 일괄 조회 (IN 쿼리 1회)
 	@Transactional(readOnly = true)
-	public boolean isStockSufficient(Map<Long, Integer> items) {
-		for (Long itemId : items.keySet()) {
-			int count = items.get(itemId);
-			int quantity = itemRepository.findById(itemId)
-				.orElseThrow(() -> new DataNotFoundException("존재하지 않는 상품이 포함되었습니다."))
-				.getStockQuantity();
-
-			if (quantity < count) {
+	public Map<Long, Item> getItemsByIds(Collection<Long> itemIds) {
+		Map<Long, Item> items = itemRepository.findAllById(itemIds).stream()
+			.collect(Collectors.toMap(Item::getId, Function.identity()));
+
+		if (items.size() != new HashSet<>(itemIds).size()) {
+			throw new DataNotFoundException("존재하지 않는 상품이 포함되었습니다.");
+		}
+		return items;
+	}
+
+	// 일괄 조회한 상품 스냅샷으로 재고 검사 (추가 조회 없음)
+	public boolean isStockSufficient(Map<Long, Item> items, Map<Long, Integer> counts) {
+		for (Long itemId : counts.keySet()) {
+			Item item = items.get(itemId);
+			if (item == null) {
+				throw new DataNotFoundException("존재하지 않는 상품이 포함되었습니다.");
+			}
+
+			if (item.getStockQuantity() < counts.get(itemId)) {
 				return false;
 			}
 		}
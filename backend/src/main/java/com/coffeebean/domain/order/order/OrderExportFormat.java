@@ -0,0 +1,28 @@
+package com.coffeebean.domain.order.order;
+
+import com.coffeebean.global.exception.ServiceException;
+
+// 주문 내보내기 형식
+public enum OrderExportFormat {
+
+    CSV("csv"), NDJSON("ndjson");
+
+    private final String extension;
+
+    OrderExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static OrderExportFormat from(String format) {
+        for (OrderExportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new ServiceException("400-1", "지원하지 않는 내보내기 형식입니다. (csv, ndjson)");
+    }
+}
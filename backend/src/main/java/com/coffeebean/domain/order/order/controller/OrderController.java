@@ -2,14 +2,18 @@ package com.coffeebean.domain.order.order.controller;
 
 import com.coffeebean.domain.order.order.DeliveryStatus;
 import com.coffeebean.domain.order.order.OrderDetailDto;
-import com.coffeebean.domain.order.order.OrderDto;
+import com.coffeebean.domain.order.order.OrderExportFormat;
 import com.coffeebean.domain.order.order.OrderStatus;
 import com.coffeebean.domain.order.order.dto.OrderListDto;
+import com.coffeebean.domain.order.order.dto.OrderPageDto;
+import com.coffeebean.domain.order.order.dto.OrderSearchCondition;
 import com.coffeebean.domain.order.order.dto.OrderListResponseDto;
+import com.coffeebean.domain.order.order.service.OrderExportService;
 import com.coffeebean.domain.order.order.service.OrderService;
 import com.coffeebean.domain.user.user.dto.EmailVerificationRequest;
 import com.coffeebean.domain.user.user.service.EmailVerificationService;
 import com.coffeebean.global.annotation.Login;
+import com.coffeebean.global.app.AppConfig;
 import com.coffeebean.global.dto.RsData;
 import com.coffeebean.global.exception.DataNotFoundException;
 import com.coffeebean.global.exception.ServiceException;
@@ -17,11 +21,17 @@ import com.coffeebean.global.security.annotations.AdminOnly;
 import com.coffeebean.global.util.CustomUserDetails;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import com.fasterxml.jackson.core.JsonGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -32,16 +42,21 @@ public class OrderController {
 
     private final OrderService orderService;
     private final EmailVerificationService emailVerificationService;
+    private final OrderExportService orderExportService;
+
+    static final int EXPORT_CHUNK_SIZE = 500; // 내보내기 시 한 번에 조회할 주문 수
 
     /**
      * 1. 전체 주문 내역 조회
      * GET /api/users/{email}/orders
      */
     @GetMapping("/my/orders")
-    public ResponseEntity<List<OrderDto>> getAllOrders(@Login CustomUserDetails customUserDetails) {
+    public ResponseEntity<OrderPageDto> getAllOrders(@Login CustomUserDetails customUserDetails,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(required = false) Integer size) {
         String email = customUserDetails.getEmail();
-        List<OrderDto> orders = orderService.getOrdersByEmail(email);
-        if (orders.isEmpty()) {
+        OrderPageDto orders = orderService.getOrdersByEmail(email, cursor, size);
+        if (cursor == null && orders.getOrders().isEmpty()) {
             throw new DataNotFoundException("해당 이메일로 주문 내역을 찾을 수 없습니다.");
         }
         return ResponseEntity.ok(orders);
@@ -95,9 +110,11 @@ public class OrderController {
 
     // 비회원 주문 조회 - 주문 리스트 반환
     @GetMapping("/v1/non-user/orders")
-    public ResponseEntity<List<OrderDto>> getNonUserOrders(@RequestHeader("X-NonUser-Email") String email) {
-        List<OrderDto> orders = orderService.getOrdersByEmail(email);
-        if (orders.isEmpty()) {
+    public ResponseEntity<OrderPageDto> getNonUserOrders(@RequestHeader("X-NonUser-Email") String email,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer size) {
+        OrderPageDto orders = orderService.getOrdersByEmail(email, cursor, size);
+        if (cursor == null && orders.getOrders().isEmpty()) {
             throw new DataNotFoundException("해당 이메일로 주문 내역을 찾을 수 없습니다.");
         }
         return ResponseEntity.ok(orders);
@@ -118,19 +135,82 @@ public class OrderController {
         return ResponseEntity.noContent().build();
     }
 
-    // 관리자 - 주문 전체 조회
+    // 관리자 - 주문 목록 조회 (상태/배송 상태/주문일 기간 검색, 페이징)
     @AdminOnly
     @GetMapping("/v1/orders/list")
-    public RsData<OrderListResponseDto> getOrderList() {
-        List<OrderListDto> orders = orderService.getAllOrder();
+    public RsData<OrderListResponseDto> getOrderList(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) OrderStatus orderStatus,
+            @RequestParam(required = false) DeliveryStatus deliveryStatus,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        OrderListResponseDto orders = orderService.getOrders(
+                new OrderSearchCondition(orderStatus, deliveryStatus, from, to), page, size);
 
         return new RsData<>(
                 "200-1",
                 "주문 전체 조회 완료",
-                new OrderListResponseDto(orders)
+                orders
         );
     }
 
+    // 관리자 - 주문 내보내기 (NDJSON, 청크 단위로 조회하는 대로 한 줄씩 전송)
+    @AdminOnly
+    @GetMapping(value = "/v1/orders/list/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportOrderList(
+            @RequestParam(required = false) OrderStatus orderStatus,
+            @RequestParam(required = false) DeliveryStatus deliveryStatus,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        OrderSearchCondition condition = new OrderSearchCondition(orderStatus, deliveryStatus, from, to);
+
+        StreamingResponseBody body = out -> {
+            // ObjectMapper.writeValue(OutputStream)은 쓴 뒤 스트림을 닫으므로 대상 스트림을 닫지 않는 generator 하나로 모든 줄을 씀
+            try (JsonGenerator generator = AppConfig.getObjectMapper().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.setRootValueSeparator(null); // 줄 구분은 직접 씀
+
+                long lastId = Long.MAX_VALUE;
+                while (true) {
+                    List<OrderListDto> chunk = orderService.getOrdersBefore(condition, lastId, EXPORT_CHUNK_SIZE);
+                    for (OrderListDto order : chunk) {
+                        generator.writeObject(order);
+                        generator.writeRaw('\n');
+                    }
+                    generator.flush();
+
+                    if (chunk.size() < EXPORT_CHUNK_SIZE) {
+                        break;
+                    }
+                    lastId = chunk.get(chunk.size() - 1).getId();
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    // 관리자 - 회계용 주문 내보내기 (주문 상품 단위, gzip 압축 CSV/NDJSON 파일)
+    @AdminOnly
+    @GetMapping("/v1/orders/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) OrderStatus orderStatus,
+            @RequestParam(required = false) DeliveryStatus deliveryStatus,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        OrderExportFormat exportFormat = OrderExportFormat.from(format);
+        OrderSearchCondition condition = new OrderSearchCondition(orderStatus, deliveryStatus, from, to);
+        String fileName = "orders-%s.%s.gz".formatted(LocalDate.now(), exportFormat.getExtension());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(out -> orderExportService.export(condition, exportFormat, out));
+    }
 
     // 관리자 - 주문 상세 보기
     @AdminOnly
@@ -0,0 +1,5 @@
+package com.coffeebean.domain.order.order.dto;
+
+// 배송 상태 변경 청크 처리 결과
+public record DeliveryChunkResult(long lastId, int read, int started, int done) {
+}
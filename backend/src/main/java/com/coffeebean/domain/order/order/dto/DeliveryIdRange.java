@@ -0,0 +1,9 @@
+package com.coffeebean.domain.order.order.dto;
+
+// 배송 상태 변경 대상 주문의 id 범위 (대상이 없으면 null)
+public record DeliveryIdRange(Long minId, Long maxId) {
+
+    public boolean isEmpty() {
+        return minId == null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.coffeebean.domain.order.order.dto;
+
+import com.coffeebean.domain.order.order.DeliveryStatus;
+
+// 배송 상태 변경 대상 주문 (엔티티 대신 필요한 컬럼만 조회)
+public record DeliveryTarget(Long id, String email, DeliveryStatus deliveryStatus) {
+}
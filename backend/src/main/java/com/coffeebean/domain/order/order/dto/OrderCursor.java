@@ -0,0 +1,31 @@
+package com.coffeebean.domain.order.order.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.coffeebean.global.exception.ServiceException;
+
+/**
+ * 주문 내역 페이지 커서 (마지막으로 내려준 주문의 주문 시간, 주문 ID)
+ * 클라이언트에는 URL에 그대로 쓸 수 있는 Base64 문자열로 전달한다.
+ */
+public record OrderCursor(LocalDateTime orderDate, Long orderId) {
+
+    public String encode() {
+        String raw = orderDate + "_" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ServiceException("400-1", "잘못된 커서입니다.");
+        }
+    }
+}
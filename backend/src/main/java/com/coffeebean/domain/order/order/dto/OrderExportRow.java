@@ -0,0 +1,16 @@
+package com.coffeebean.domain.order.order.dto;
+
+import java.time.LocalDateTime;
+
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderStatus;
+
+// 회계용 주문 내보내기 행 (주문 상품 1건당 1행)
+public record OrderExportRow(Long orderId, LocalDateTime orderDate, String email,
+                             OrderStatus orderStatus, DeliveryStatus deliveryStatus,
+                             Long itemId, String itemName, int orderPrice, int count) {
+
+    public long totalPrice() {
+        return (long) orderPrice * count;
+    }
+}
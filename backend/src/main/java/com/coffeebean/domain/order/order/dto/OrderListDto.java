@@ -8,7 +8,6 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @AllArgsConstructor
@@ -21,15 +20,14 @@ public class OrderListDto {
     private LocalDateTime orderDate;
     private List<OrderItemsDto> orderItems;
 
-    public OrderListDto(Order order) {
+    // 주문 상품은 별도 쿼리로 조회해 전달 (주문 페이지 조회와 상품 조회를 나눠 카테시안 곱 방지)
+    public OrderListDto(Order order, List<OrderItemsDto> orderItems) {
         this.id = order.getId();
         this.email = order.getEmail();
         this.orderStatus = order.getOrderStatus();
         this.deliveryStatus = order.getDeliveryStatus();
         this.orderDate = order.getOrderDate();
-        this.orderItems = order.getOrderItems().stream()
-                .map(OrderItemsDto::new)
-                .collect(Collectors.toList());
+        this.orderItems = orderItems;
     }
 
 }
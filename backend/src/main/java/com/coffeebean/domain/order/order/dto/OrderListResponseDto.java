@@ -9,4 +9,7 @@ import java.util.List;
 @AllArgsConstructor
 public class OrderListResponseDto {
     private List<OrderListDto> orders;
-}
\ No newline at end of file
+    private int page; // 현재 페이지 (0부터 시작)
+    private int totalPages; // 전체 페이지 수
+    private long totalElements; // 조건에 맞는 전체 주문 수
+}
@@ -0,0 +1,14 @@
+package com.coffeebean.domain.order.order.dto;
+
+import com.coffeebean.domain.order.order.OrderDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class OrderPageDto {
+    private List<OrderDto> orders; // 주문 목록 (최신순)
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+}
@@ -0,0 +1,22 @@
+package com.coffeebean.domain.order.order.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderStatus;
+
+// 관리자 주문 목록 검색 조건 (null인 조건은 적용하지 않음)
+public record OrderSearchCondition(OrderStatus orderStatus, DeliveryStatus deliveryStatus,
+                                   LocalDate fromDate, LocalDate toDate) {
+
+    // 시작일 00:00 이후
+    public LocalDateTime from() {
+        return fromDate == null ? null : fromDate.atStartOfDay();
+    }
+
+    // 종료일 다음 날 00:00 이전 (종료일 포함)
+    public LocalDateTime to() {
+        return toDate == null ? null : toDate.plusDays(1).atStartOfDay();
+    }
+}
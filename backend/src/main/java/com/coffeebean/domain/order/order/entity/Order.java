@@ -29,7 +29,11 @@ import static jakarta.persistence.CascadeType.ALL;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "orders")
+@Table(name = "orders",
+        indexes = {
+                @Index(name = "idx_orders_delivery_status", columnList = "delivery_status, order_id"),
+                @Index(name = "idx_orders_email_order_date", columnList = "email, order_date")
+        })
 @EntityListeners(AuditingEntityListener.class)
 public class Order {
 
@@ -48,6 +52,8 @@ public class Order {
     @Enumerated(EnumType.STRING)
     private DeliveryStatus deliveryStatus; // 배송 상태
 
+    private LocalDateTime deliveryUpdatedDate; // 배송 상태 일괄 변경 시각
+
     @Enumerated(EnumType.STRING)
     private OrderStatus orderStatus; // 주문 상태
 
@@ -1,13 +1,21 @@
 package com.coffeebean.domain.order.order.repository;
 
 import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderDto;
+import com.coffeebean.domain.order.order.OrderStatus;
+import com.coffeebean.domain.order.order.dto.DeliveryIdRange;
+import com.coffeebean.domain.order.order.dto.DeliveryTarget;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.coffeebean.domain.order.order.entity.Order;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,17 +25,99 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findAllByEmail(String email); // 사용자의 이메일로 전체 주문 내역 조회
     Optional<Order> findByEmail(String email); // 사용자의 이메일로 단건 주문 조회
 
-    @Query("select o from Order o where o.email = :email order by o.orderDate desc limit 3")
-    List<Order> findTop3ByEmailOrderByOrderDateDesc(@Param("email") String email); // 사용자의 이메일로 최신순 3건 조회
+    // 사용자의 이메일로 주문 목록 최신순 조회 (엔티티 대신 OrderDto로 바로 조회, 쿼리 1회)
+    // 대표 상품명은 첫 번째 주문 상품의 이름, 전체 금액은 SUM(주문 가격 * 수량)
+    @Query("select new com.coffeebean.domain.order.order.OrderDto(o.id, o.orderDate, " +
+            "(select i.name from OrderItem f join f.item i " +
+            "where f.id = (select min(f2.id) from OrderItem f2 where f2.order = o)), " +
+            "o.orderStatus, o.deliveryStatus, sum(oi.orderPrice * oi.count)) " +
+            "from Order o join o.orderItems oi " +
+            "where o.email = :email " +
+            "group by o.id, o.orderDate, o.orderStatus, o.deliveryStatus " +
+            "order by o.orderDate desc, o.id desc")
+    List<OrderDto> findOrderDtosByEmail(@Param("email") String email, Pageable pageable);
 
-    // 특정 배송 상태에 해당되는 주문 조회
-    List<Order> findByDeliveryStatusIn(List<DeliveryStatus> deliveryStatuses);
+    // 커서 이후 주문 목록 조회 ((orderDate, id) 키셋 페이징 - 주문 수와 관계없이 인덱스 범위 스캔)
+    @Query("select new com.coffeebean.domain.order.order.OrderDto(o.id, o.orderDate, " +
+            "(select i.name from OrderItem f join f.item i " +
+            "where f.id = (select min(f2.id) from OrderItem f2 where f2.order = o)), " +
+            "o.orderStatus, o.deliveryStatus, sum(oi.orderPrice * oi.count)) " +
+            "from Order o join o.orderItems oi " +
+            "where o.email = :email " +
+            "and (o.orderDate < :orderDate or (o.orderDate = :orderDate and o.id < :orderId)) " +
+            "group by o.id, o.orderDate, o.orderStatus, o.deliveryStatus " +
+            "order by o.orderDate desc, o.id desc")
+    List<OrderDto> findOrderDtosByEmailBefore(@Param("email") String email,
+                                              @Param("orderDate") LocalDateTime orderDate,
+                                              @Param("orderId") Long orderId,
+                                              Pageable pageable);
 
-    // 전체 조회
-    @Query("SELECT o FROM Order o " +
-            "JOIN FETCH o.orderItems oi " +
-            "JOIN FETCH oi.item")
-    List<Order> findAllOrdersWithItems();
+    // 배송 상태 변경 대상 주문의 id 범위 (파티션 분할용)
+    @Query("select new com.coffeebean.domain.order.order.dto.DeliveryIdRange(min(o.id), max(o.id)) " +
+            "from Order o " +
+            "where o.orderStatus = :orderStatus and o.deliveryStatus in :deliveryStatuses " +
+            "and (o.deliveryUpdatedDate is null or o.deliveryUpdatedDate < :runDate)")
+    DeliveryIdRange findDeliveryTargetRange(@Param("orderStatus") OrderStatus orderStatus,
+                                            @Param("deliveryStatuses") List<DeliveryStatus> deliveryStatuses,
+                                            @Param("runDate") LocalDateTime runDate);
 
+    // 배송 상태 변경 대상 주문을 id 기준 키셋 페이징으로 조회 (lastId 이후, maxId 이하 한 청크)
+    // runDate 이후 이미 변경된 주문은 제외 (같은 날 작업을 다시 실행해도 두 단계씩 변경되지 않음)
+    @Query("select new com.coffeebean.domain.order.order.dto.DeliveryTarget(o.id, o.email, o.deliveryStatus) " +
+            "from Order o " +
+            "where o.id > :lastId and o.id <= :maxId " +
+            "and o.orderStatus = :orderStatus and o.deliveryStatus in :deliveryStatuses " +
+            "and (o.deliveryUpdatedDate is null or o.deliveryUpdatedDate < :runDate) " +
+            "order by o.id")
+    List<DeliveryTarget> findDeliveryTargets(@Param("lastId") long lastId,
+                                             @Param("maxId") long maxId,
+                                             @Param("orderStatus") OrderStatus orderStatus,
+                                             @Param("deliveryStatuses") List<DeliveryStatus> deliveryStatuses,
+                                             @Param("runDate") LocalDateTime runDate,
+                                             Pageable pageable);
 
+    // 배송 상태 일괄 변경 (현재 상태가 from인 주문만 변경)
+    @Modifying
+    @Query("update Order o set o.deliveryStatus = :to, o.deliveryUpdatedDate = :now " +
+            "where o.id in :ids and o.deliveryStatus = :from")
+    int bulkUpdateDeliveryStatus(@Param("ids") List<Long> ids,
+                                 @Param("from") DeliveryStatus from,
+                                 @Param("to") DeliveryStatus to,
+                                 @Param("now") LocalDateTime now);
+
+    @Query("select o.id from Order o where o.id in :ids and o.deliveryStatus = :deliveryStatus")
+    List<Long> findIdsByDeliveryStatus(@Param("ids") List<Long> ids,
+                                       @Param("deliveryStatus") DeliveryStatus deliveryStatus);
+
+    // 관리자 주문 목록 - 조건 검색 후 한 페이지의 주문만 조회 (주문 상품은 따로 조회)
+    @Query(value = "select o from Order o " +
+            "where (:orderStatus is null or o.orderStatus = :orderStatus) " +
+            "and (:deliveryStatus is null or o.deliveryStatus = :deliveryStatus) " +
+            "and (:from is null or o.orderDate >= :from) " +
+            "and (:to is null or o.orderDate < :to)",
+            countQuery = "select count(o) from Order o " +
+            "where (:orderStatus is null or o.orderStatus = :orderStatus) " +
+            "and (:deliveryStatus is null or o.deliveryStatus = :deliveryStatus) " +
+            "and (:from is null or o.orderDate >= :from) " +
+            "and (:to is null or o.orderDate < :to)")
+    Page<Order> searchOrders(@Param("orderStatus") OrderStatus orderStatus,
+                             @Param("deliveryStatus") DeliveryStatus deliveryStatus,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to,
+                             Pageable pageable);
+
+    // 관리자 주문 내보내기 - lastId 이전 주문을 id 내림차순으로 한 청크 조회
+    @Query("select o from Order o " +
+            "where o.id < :lastId " +
+            "and (:orderStatus is null or o.orderStatus = :orderStatus) " +
+            "and (:deliveryStatus is null or o.deliveryStatus = :deliveryStatus) " +
+            "and (:from is null or o.orderDate >= :from) " +
+            "and (:to is null or o.orderDate < :to) " +
+            "order by o.id desc")
+    List<Order> searchOrdersBefore(@Param("lastId") long lastId,
+                                   @Param("orderStatus") OrderStatus orderStatus,
+                                   @Param("deliveryStatus") DeliveryStatus deliveryStatus,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   Pageable pageable);
 }
@@ -0,0 +1,189 @@
+package com.coffeebean.domain.order.order.service;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.coffeebean.domain.order.order.dto.DeliveryChunkResult;
+import com.coffeebean.domain.order.order.dto.DeliveryIdRange;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배송 상태 일괄 변경 작업
+ * 대상 주문의 id 범위를 파티션으로 나눠 병렬 처리하고, 각 파티션은 id 순서로 청크 단위 조회/변경한다.
+ * 청크마다 트랜잭션이 커밋되며, 오늘 이미 변경된 주문은 다시 조회되지 않으므로 중간에 실패해도 재실행할 수 있다.
+ * 파티션마다 DB 커넥션을 하나씩 쓰므로 동시 파티션 수는 커넥션 풀 크기에서 요청 처리용 예비 커넥션을 뺀 값 이하로 제한한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeliveryStatusJob {
+
+    private static final int DEFAULT_POOL_SIZE = 10; // HikariCP 기본 maximumPoolSize
+
+    private final OrderService orderService;
+    private final DataSource dataSource;
+
+    @Value("${order.delivery-job.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${order.delivery-job.parallelism:0}")
+    private int parallelism;
+
+    @Value("${order.delivery-job.reserved-connections:3}")
+    private int reservedConnections;
+
+    @Value("${order.delivery-job.executor:fork-join}")
+    private String executorType;
+
+    private int maxParallelism;
+
+    // 설정한 동시 파티션 수가 커넥션 풀을 다 쓰면 기동 실패
+    @PostConstruct
+    void validateParallelism() {
+        int poolSize = poolSize();
+        maxParallelism = Math.max(1, poolSize - reservedConnections);
+        if (parallelism > maxParallelism) {
+            throw new IllegalStateException(("order.delivery-job.parallelism(%d)은 DB 커넥션 풀 크기(%d)에서 " +
+                    "예비 커넥션(%d)을 뺀 %d 이하여야 합니다.").formatted(parallelism, poolSize, reservedConnections,
+                    maxParallelism));
+        }
+    }
+
+    public void run() {
+        long jobStart = System.nanoTime();
+        LocalDateTime runDate = LocalDate.now().atStartOfDay();
+
+        DeliveryIdRange range = orderService.getDeliveryTargetRange(runDate);
+        if (range.isEmpty()) {
+            log.info("배송 상태 변경 대상 주문이 없습니다.");
+            return;
+        }
+
+        List<long[]> partitions = split(range, resolveParallelism());
+        List<Future<Integer>> futures = new ArrayList<>();
+        int total = 0;
+        int failed = 0;
+
+        try (ExecutorService executor = createExecutor(partitions.size())) {
+            for (int i = 0; i < partitions.size(); i++) {
+                int partition = i + 1;
+                long[] bounds = partitions.get(i);
+                futures.add(executor.submit(() -> runPartition(partition, partitions.size(), bounds[0], bounds[1], runDate)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    total += futures.get(i).get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.error("배송 상태 변경 파티션 {} 실패. id 범위=({}, {}]",
+                            i + 1, partitions.get(i)[0], partitions.get(i)[1], e.getCause());
+                } catch (InterruptedException e) {
+                    // 작업 잠금을 잃음 - 파티션 작업도 현재 청크까지만 처리하고 중단 (다음 실행 때 남은 주문부터 처리)
+                    executor.shutdownNow();
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("배송 상태 변경 작업이 중단되었습니다.", e);
+                }
+            }
+        }
+
+        long elapsedMs = elapsedMillis(jobStart);
+        log.info("배송 상태 변경 완료. 파티션={} (실패 {}), 처리={}건, {}ms, {}건/초",
+                partitions.size(), failed, total, elapsedMs, throughput(total, elapsedMs));
+    }
+
+    // 파티션 (minId, maxId] 구간을 청크 단위로 처리
+    private int runPartition(int partition, int partitionCount, long minId, long maxId, LocalDateTime runDate) {
+        long lastId = minId;
+        int total = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            long chunkStart = System.nanoTime();
+            DeliveryChunkResult result = orderService.updateDeliveryStatusChunk(lastId, maxId, runDate, chunkSize);
+            if (result.read() == 0) {
+                break;
+            }
+
+            long elapsedMs = elapsedMillis(chunkStart);
+            total += result.read();
+            log.info("배송 상태 변경 파티션 {}/{} 진행. lastId={}/{}, 처리={}건 (배송 시작 {}, 배송 완료 {}), {}ms, {}건/초",
+                    partition, partitionCount, result.lastId(), maxId, result.read(), result.started(), result.done(),
+                    elapsedMs, throughput(result.read(), elapsedMs));
+
+            lastId = result.lastId();
+            if (result.read() < chunkSize) {
+                break;
+            }
+        }
+
+        if (Thread.currentThread().isInterrupted()) {
+            log.warn("배송 상태 변경 파티션 {}/{} 중단. lastId={}/{}, 처리={}건", partition, partitionCount, lastId, maxId, total);
+            return total;
+        }
+        log.info("배송 상태 변경 파티션 {}/{} 완료. id 범위=({}, {}], 처리={}건", partition, partitionCount, minId, maxId, total);
+        return total;
+    }
+
+    // id 범위를 같은 크기의 구간 (lo, hi]로 분할
+    private List<long[]> split(DeliveryIdRange range, int count) {
+        long lo = range.minId() - 1;
+        long span = range.maxId() - lo;
+        long size = Math.max(1, (span + count - 1) / count);
+
+        List<long[]> partitions = new ArrayList<>();
+        for (long start = lo; start < range.maxId(); start += size) {
+            partitions.add(new long[] {start, Math.min(start + size, range.maxId())});
+        }
+        return partitions;
+    }
+
+    // 0이면 CPU 코어 수 (커넥션 풀 제한 이하)
+    int resolveParallelism() {
+        return parallelism > 0 ? parallelism : Math.min(Runtime.getRuntime().availableProcessors(), maxParallelism);
+    }
+
+    private int poolSize() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int maximumPoolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                return maximumPoolSize > 0 ? maximumPoolSize : DEFAULT_POOL_SIZE;
+            }
+        } catch (SQLException e) {
+            log.warn("DB 커넥션 풀 크기를 확인할 수 없어 기본값({})을 사용합니다.", DEFAULT_POOL_SIZE, e);
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+
+    // 파티션 수만큼만 동시에 실행되므로 가상 스레드를 써도 DB 커넥션 사용량은 parallelism으로 제한됨
+    private ExecutorService createExecutor(int partitionCount) {
+        if ("virtual".equals(executorType)) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        return new ForkJoinPool(partitionCount);
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private long throughput(int count, long elapsedMs) {
+        return elapsedMs == 0 ? count * 1000L : count * 1000L / elapsedMs;
+    }
+}
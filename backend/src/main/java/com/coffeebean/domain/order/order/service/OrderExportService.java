@@ -0,0 +1,111 @@
+package com.coffeebean.domain.order.order.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.order.order.OrderExportFormat;
+import com.coffeebean.domain.order.order.dto.OrderExportRow;
+import com.coffeebean.domain.order.order.dto.OrderSearchCondition;
+import com.coffeebean.domain.order.orderItem.repository.OrderItemRepository;
+import com.coffeebean.global.app.AppConfig;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회계용 주문 내보내기
+ * 주문 상품 행을 DB 커서로 하나씩 읽어 gzip으로 압축한 CSV/NDJSON을 바로 출력 스트림에 쓴다.
+ * 전체 결과를 메모리에 올리지 않으므로 주문 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final int CLEAR_INTERVAL = 1000; // 영속성 컨텍스트 정리 주기 (행 수)
+    private static final String CSV_HEADER =
+            "order_id,order_date,email,order_status,delivery_status,item_id,item_name,order_price,count,total_price";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r"; // 스프레드시트가 수식으로 해석하는 첫 글자
+
+    private final OrderItemRepository orderItemRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void export(OrderSearchCondition condition, OrderExportFormat format, OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+
+        try (Stream<OrderExportRow> rows = orderItemRepository.streamExportRows(condition.orderStatus(),
+                condition.deliveryStatus(), condition.from(), condition.to())) {
+            if (format == OrderExportFormat.CSV) {
+                writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            int count = 0;
+            Iterator<OrderExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                OrderExportRow row = iterator.next();
+                writer.write(format == OrderExportFormat.CSV ? toCsv(row) : toJson(row));
+                writer.write('\n');
+
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        writer.flush();
+        gzip.finish();
+    }
+
+    private String toCsv(OrderExportRow row) {
+        return String.join(",",
+                String.valueOf(row.orderId()),
+                String.valueOf(row.orderDate()),
+                escapeCsv(row.email()),
+                nameOf(row.orderStatus()),
+                nameOf(row.deliveryStatus()),
+                String.valueOf(row.itemId()),
+                escapeCsv(row.itemName()),
+                String.valueOf(row.orderPrice()),
+                String.valueOf(row.count()),
+                String.valueOf(row.totalPrice()));
+    }
+
+    private String toJson(OrderExportRow row) throws IOException {
+        return AppConfig.getObjectMapper().writeValueAsString(row);
+    }
+
+    private String nameOf(Enum<?> value) {
+        return value == null ? "" : value.name();
+    }
+
+    // 수식으로 시작하면 앞에 '를 붙여 문자열로 읽히게 하고,
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -1,6 +1,11 @@
 package com.coffeebean.domain.order.order.service;
 
+import java.time.Duration;
+
+import com.coffeebean.global.lock.SchedulerLockService;
+
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -8,11 +13,17 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class OrderScheduler {
 
-    private final OrderService orderService;
+    private final DeliveryStatusJob deliveryStatusJob;
+    private final SchedulerLockService schedulerLockService;
+
+    @Value("${order.delivery-job.lock-at-least-for-ms:600000}")
+    private long lockAtLeastForMillis;
 
-    // 배송 상태 변경 스케줄러
+    // 배송 상태 변경 스케줄러 (여러 노드 중 잠금을 얻은 한 노드만 실행)
+    // 작업이 빨리 끝나도 잠금을 유지해 크론이 늦게 실행된 노드가 같은 날 다시 실행하지 않게 함
     @Scheduled(cron = "0 0 14 * * ?")// 매일 14시 실행
     public void scheduledDelivery() {
-        orderService.updateDeliveryStatus();
+        schedulerLockService.runWithLock("delivery-status-job", Duration.ofMillis(lockAtLeastForMillis),
+                deliveryStatusJob::run);
     }
 }
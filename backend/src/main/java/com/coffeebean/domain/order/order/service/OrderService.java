@@ -1,15 +1,39 @@
 package com.coffeebean.domain.order.order.service;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.service.ItemService;
 import com.coffeebean.domain.order.order.OrderDetailDto;
 import com.coffeebean.domain.order.order.OrderDto;
+import com.coffeebean.domain.order.order.dto.DeliveryChunkResult;
+import com.coffeebean.domain.order.order.dto.DeliveryIdRange;
+import com.coffeebean.domain.order.order.dto.DeliveryTarget;
+import com.coffeebean.domain.order.order.dto.OrderCreateRequest;
+import com.coffeebean.domain.order.order.dto.OrderCreateResponse;
+import com.coffeebean.domain.order.order.dto.OrderCursor;
+import com.coffeebean.domain.order.order.dto.OrderItemsDto;
 import com.coffeebean.domain.order.order.dto.OrderListDto;
+import com.coffeebean.domain.order.order.dto.OrderListResponseDto;
+import com.coffeebean.domain.order.order.dto.OrderPageDto;
+import com.coffeebean.domain.order.order.dto.OrderSearchCondition;
 import com.coffeebean.domain.order.orderItem.entity.OrderItem;
-import com.coffeebean.domain.user.user.service.MailService;
+import com.coffeebean.domain.order.orderItem.repository.OrderItemRepository;
+import com.coffeebean.domain.order.orderItem.service.OrderItemService;
+import com.coffeebean.domain.order.outbox.service.OrderMailOutboxService;
+import com.coffeebean.domain.user.user.service.UserService;
 import com.coffeebean.global.exception.DataNotFoundException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,7 +52,65 @@ import lombok.RequiredArgsConstructor;
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final MailService mailService;
+    private final OrderMailOutboxService orderMailOutboxService;
+    private final ItemService itemService;
+    private final OrderItemService orderItemService;
+    private final UserService userService;
+    private final OrderItemRepository orderItemRepository;
+
+    @Value("${order.history.page-size:20}")
+    private int historyPageSize;
+
+    @Value("${order.history.max-page-size:100}")
+    private int historyMaxPageSize;
+
+    @Value("${order.admin.max-page-size:100}")
+    private int adminMaxPageSize;
+
+    /**
+     * 주문 등록 (재고 검사 ~ 주문 상세 저장까지 하나의 트랜잭션)
+     * 주문 상품은 IN 쿼리 한 번으로 조회하고, 같은 스냅샷으로 재고 검사와 주문 상세 생성을 처리한다.
+     */
+    @Transactional
+    public OrderCreateResponse placeOrder(OrderCreateRequest orderCreateRequest) {
+        String email = orderCreateRequest.getEmail();
+        Map<Long, Integer> counts = orderCreateRequest.getItems();
+
+        // 주문에 상품이 하나도 포함되어 있지 않으면 실패
+        if (counts.isEmpty()) {
+            throw new ServiceException("400-4", "주문에 상품이 추가되지 않았습니다. 먼저 상품을 추가하세요.");
+        }
+
+        // 재고 부족 시 주문 등록 실패
+        Map<Long, Item> items = itemService.getItemsByIds(counts.keySet());
+        if (!itemService.isStockSufficient(items, counts)) {
+            throw new ServiceException("400-3", "재고가 충분하지 않습니다. 상품 수량을 확인하세요.");
+        }
+
+        // 적립금을 사용하는 주문이면 적립금이 사용 가능한지 검사
+        if (orderCreateRequest.getPoint() != 0 &&
+                !userService.isPointAvailable(email, orderCreateRequest.getPoint())) {
+            throw new ServiceException("400-5", "적립금을 사용할 수 없습니다.");
+        }
+
+        // Order 생성
+        Order order = createOrder(email,
+                orderCreateRequest.getAddress().getCity(),
+                orderCreateRequest.getAddress().getStreet(),
+                orderCreateRequest.getAddress().getZipcode());
+
+        // Order의 세부 상품 항목들 OderItem 저장
+        List<OrderItem> orderItems = orderItemService.createOrderItem(order, items, counts, email,
+                orderCreateRequest.getCartOrder(), orderCreateRequest.getPoint());
+
+        // 주문 메일은 아웃박스에 등록 (주문이 커밋되어야만 발송됨)
+        orderMailOutboxService.enqueue(email,
+                "배송이 시작되었습니다.",
+                "주문번호[%d]의 상품의 배송이 시작되었습니다.".formatted(order.getId())
+        );
+
+        return new OrderCreateResponse(order, orderItems);
+    }
 
     @Transactional
     public Order createOrder(String email, String city, String street, String zipcode) {
@@ -46,50 +128,39 @@ public class OrderService {
     }
 
     /**
-     * 이메일로 주문 리스트 조회
+     * 이메일로 주문 리스트 조회 (프로젝션 쿼리 1회, 엔티티 로딩 없음)
+     * (orderDate, id) 키셋 페이징으로 주문이 많아도 페이지마다 같은 비용으로 조회한다.
      *
-     * @param email 고객 이메일
-     * @return List<OrderDto> 주문 DTO 리스트
+     * @param email  고객 이메일
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (null이면 기본값, 최대값 이하로 제한)
+     * @return OrderPageDto 주문 DTO 리스트와 다음 페이지 커서
      */
-    public List<OrderDto> getOrdersByEmail(String email) {
-        List<Order> orders = orderRepository.findAllByEmail(email);
-        return convertToDtoList(orders);
-    }
+    public OrderPageDto getOrdersByEmail(String email, String cursor, Integer size) {
+        int pageSize = size == null ? historyPageSize : Math.clamp(size, 1, historyMaxPageSize);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
 
-    // 최신 3건만 보여 주는 용도
-    @Transactional
-    public List<OrderDto> getRecentOrdersByEmail(String email) {
-        List<Order> orders = orderRepository.findTop3ByEmailOrderByOrderDateDesc(email);
-        return convertToDtoList(orders);
-    }
-
-    private List<OrderDto> convertToDtoList(List<Order> orders) {
-        return orders.stream()
-                .map(order -> {
-                    // 주문 상품명이 없을 경우 기본값 설정
-                    return convertToDto(order);
-                })
-                .toList();
-    }
+        List<OrderDto> orders;
+        if (cursor == null || cursor.isBlank()) {
+            orders = orderRepository.findOrderDtosByEmail(email, pageable);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            orders = orderRepository.findOrderDtosByEmailBefore(email, after.orderDate(), after.orderId(), pageable);
+        }
 
-    private OrderDto convertToDto(Order order) {
-        if (order.getOrderItems().isEmpty()) {
-            throw new IllegalStateException("주문에 상품이 없습니다.");
+        if (orders.size() <= pageSize) {
+            return new OrderPageDto(orders, null);
         }
 
-        String itemName = order.getOrderItems().get(0).getItem().getName();
-
-        // OrderDto 생성 및 반환
-        return new OrderDto(
-                order.getId(), // 주문 ID
-                order.getOrderDate(), // 주문 시간
-                itemName, // 대표 상품명 (첫 번째 상품 또는 기본값)
-                order.getOrderStatus(), // 주문 상태
-                order.getDeliveryStatus(), // 배송 상태
-                order.getOrderItems().stream()
-                        .mapToInt(OrderItem::getTotalPrice) // 각 상품의 총 가격 합산
-                        .sum() // 전체 금액 계산
-        );
+        List<OrderDto> page = orders.subList(0, pageSize);
+        OrderDto last = page.get(pageSize - 1);
+        return new OrderPageDto(page, new OrderCursor(last.getOrderDate(), last.getOrderId()).encode());
+    }
+
+    // 최신 3건만 보여 주는 용도
+    public List<OrderDto> getRecentOrdersByEmail(String email) {
+        return orderRepository.findOrderDtosByEmail(email, PageRequest.of(0, 3));
     }
 
     /**
@@ -144,54 +215,102 @@ public class OrderService {
     }
 
 
-    // 배송 상태 업데이트 트랜잭션처리
+    // 배송 상태 변경 대상 주문의 id 범위
+    public DeliveryIdRange getDeliveryTargetRange(LocalDateTime runDate) {
+        return orderRepository.findDeliveryTargetRange(OrderStatus.ORDER,
+                List.of(DeliveryStatus.READY, DeliveryStatus.START), runDate);
+    }
+
+    /**
+     * 배송 상태 변경 - 한 청크(lastId 이후 maxId 이하 chunkSize건)를 하나의 트랜잭션으로 처리
+     * 배송 준비 -> 배송 중, 배송 중 -> 배송 완료를 각각 UPDATE 한 번으로 변경하고, 알림 메일은 같은 트랜잭션에서 아웃박스에 등록한다.
+     */
     @Transactional
-    public void updateDeliveryStatus() {
-        // 배송준비와 배송 중인 것만 처리
-        List<Order> orders = orderRepository.findByDeliveryStatusIn(List.of(DeliveryStatus.READY, DeliveryStatus.START));
-
-        for (Order order : orders) {
-            try {
-                // ORDER일 경우만 변경
-                if (order.getOrderStatus() != OrderStatus.ORDER) {
-                    continue;
-                }
-
-                // 배송 준비 -> 배송 중, 배송중 메일 발송
-                if (order.getDeliveryStatus() == DeliveryStatus.READY) {
-                    order.setDeliveryStatus(DeliveryStatus.START);
-                    mailService.sendMailToUser(order.getEmail(),
-                            "배송이 시작되었습니다.",
-                            "주문번호[%d]의 상품의 배송이 시작되었습니다.".formatted(order.getId())
-                    );
-                } else if (order.getDeliveryStatus() == DeliveryStatus.START) {
-                    // 배송중 -> 배송 완료, 배송 완료 메일 발송
-                    order.setDeliveryStatus(DeliveryStatus.DONE);
-                    mailService.sendMailToUser(
-                            order.getEmail(),
-                            "배송이 완료되었습니다.",
-                            "주문번호[%d]의 상품의 배송이 완료되었습니다.".formatted(order.getId())
-                    );
-                }
-            } catch (Exception e) {
-                continue; // 프로세스 중단 방지
-            }
+    public DeliveryChunkResult updateDeliveryStatusChunk(long lastId, long maxId, LocalDateTime runDate, int chunkSize) {
+        // ORDER 상태이면서 배송준비와 배송 중인 것만 처리
+        List<DeliveryTarget> targets = orderRepository.findDeliveryTargets(lastId, maxId, OrderStatus.ORDER,
+                List.of(DeliveryStatus.READY, DeliveryStatus.START), runDate, PageRequest.of(0, chunkSize));
+
+        if (targets.isEmpty()) {
+            return new DeliveryChunkResult(lastId, 0, 0, 0);
         }
-    }
 
-    // 주문시 메일 전송
-    public void sendOrderMail(Order order) {
-        mailService.sendMailToUser(
-                order.getEmail(),
+        Map<DeliveryStatus, List<DeliveryTarget>> byStatus = targets.stream()
+                .collect(Collectors.groupingBy(DeliveryTarget::deliveryStatus));
+        List<DeliveryTarget> ready = byStatus.getOrDefault(DeliveryStatus.READY, List.of());
+        List<DeliveryTarget> start = byStatus.getOrDefault(DeliveryStatus.START, List.of());
+
+        // 배송 준비 -> 배송 중, 배송중 메일 등록
+        List<DeliveryTarget> started = transitDeliveryStatus(ready, DeliveryStatus.READY, DeliveryStatus.START);
+        started.forEach(target -> orderMailOutboxService.enqueue(target.email(),
                 "배송이 시작되었습니다.",
-                "주문번호[%d]의 상품의 배송이 시작되었습니다.".formatted(order.getId())
-        );
+                "주문번호[%d]의 상품의 배송이 시작되었습니다.".formatted(target.id())
+        ));
+
+        // 배송중 -> 배송 완료, 배송 완료 메일 등록
+        List<DeliveryTarget> done = transitDeliveryStatus(start, DeliveryStatus.START, DeliveryStatus.DONE);
+        done.forEach(target -> orderMailOutboxService.enqueue(target.email(),
+                "배송이 완료되었습니다.",
+                "주문번호[%d]의 상품의 배송이 완료되었습니다.".formatted(target.id())
+        ));
+
+        return new DeliveryChunkResult(targets.get(targets.size() - 1).id(), targets.size(), started.size(), done.size());
     }
 
-    // 모든 주문 조회
-    public List<OrderListDto> getAllOrder() {
-        return orderRepository.findAllOrdersWithItems().stream()
-                .map(OrderListDto::new)
+    // 실제로 상태가 변경된 주문만 반환 (조회 후 취소된 주문에는 메일을 보내지 않음)
+    private List<DeliveryTarget> transitDeliveryStatus(List<DeliveryTarget> targets, DeliveryStatus from, DeliveryStatus to) {
+        if (targets.isEmpty()) {
+            return targets;
+        }
+
+        List<Long> ids = targets.stream()
+                .map(DeliveryTarget::id)
+                .toList();
+        if (orderRepository.bulkUpdateDeliveryStatus(ids, from, to, LocalDateTime.now()) == ids.size()) {
+            return targets;
+        }
+
+        Set<Long> changed = new HashSet<>(orderRepository.findIdsByDeliveryStatus(ids, to));
+        return targets.stream()
+                .filter(target -> changed.contains(target.id()))
+                .toList();
+    }
+
+    /**
+     * 관리자 주문 목록 조회 (조건 검색 + 페이징)
+     * 1단계로 한 페이지의 주문만 조회하고, 2단계로 그 주문들의 상품을 IN 쿼리 한 번으로 조회한다.
+     */
+    public OrderListResponseDto getOrders(OrderSearchCondition condition, int page, int size) {
+        Pageable pageable = PageRequest.of(page, Math.clamp(size, 1, adminMaxPageSize),
+                Sort.by(Sort.Order.desc("orderDate"), Sort.Order.desc("id")));
+        Page<Order> orders = orderRepository.searchOrders(condition.orderStatus(), condition.deliveryStatus(),
+                condition.from(), condition.to(), pageable);
+
+        return new OrderListResponseDto(toOrderListDtos(orders.getContent()),
+                orders.getNumber(), orders.getTotalPages(), orders.getTotalElements());
+    }
+
+    // 관리자 주문 내보내기 - lastId 이전 주문 한 청크 (청크마다 별도 트랜잭션)
+    public List<OrderListDto> getOrdersBefore(OrderSearchCondition condition, long lastId, int chunkSize) {
+        List<Order> orders = orderRepository.searchOrdersBefore(lastId, condition.orderStatus(),
+                condition.deliveryStatus(), condition.from(), condition.to(), PageRequest.of(0, chunkSize));
+        return toOrderListDtos(orders);
+    }
+
+    private List<OrderListDto> toOrderListDtos(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> orderIds = orders.stream()
+                .map(Order::getId)
+                .toList();
+        Map<Long, List<OrderItemsDto>> itemsByOrderId = orderItemRepository.findWithItemByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(orderItem -> orderItem.getOrder().getId(),
+                        Collectors.mapping(OrderItemsDto::new, Collectors.toList())));
+
+        return orders.stream()
+                .map(order -> new OrderListDto(order, itemsByOrderId.getOrDefault(order.getId(), List.of())))
                 .toList();
     }
 
@@ -1,8 +1,14 @@
 package com.coffeebean.domain.order.orderItem.repository;
 
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderStatus;
+import com.coffeebean.domain.order.order.dto.OrderExportRow;
 import com.coffeebean.domain.order.order.entity.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +16,7 @@ import com.coffeebean.domain.order.orderItem.entity.OrderItem;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
@@ -26,4 +33,32 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             "and oi.isWritten = false")
     List<OrderItem> findReviewableOrderItems(@Param("email") String email,
                                              @Param("cutoffDate") LocalDateTime cutoffDate);
+
+    // 주문 id 목록의 주문 상품을 상품과 함께 조회 (관리자 주문 목록 2단계 조회)
+    @Query("SELECT oi FROM OrderItem oi " +
+            "JOIN FETCH oi.item " +
+            "WHERE oi.order.id IN :orderIds " +
+            "ORDER BY oi.id")
+    List<OrderItem> findWithItemByOrderIdIn(@Param("orderIds") List<Long> orderIds);
+
+    // 회계용 주문 내보내기 - 엔티티 대신 행 단위 DTO를 커서로 흘려보냄 (트랜잭션 안에서 소비해야 함)
+    // MySQL에서 실제로 서버 커서를 쓰려면 JDBC URL에 useCursorFetch=true 필요
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.coffeebean.domain.order.order.dto.OrderExportRow(" +
+            "o.id, o.orderDate, o.email, o.orderStatus, o.deliveryStatus, i.id, i.name, oi.orderPrice, oi.count) " +
+            "FROM OrderItem oi " +
+            "JOIN oi.order o " +
+            "JOIN oi.item i " +
+            "WHERE (:orderStatus IS NULL OR o.orderStatus = :orderStatus) " +
+            "AND (:deliveryStatus IS NULL OR o.deliveryStatus = :deliveryStatus) " +
+            "AND (:from IS NULL OR o.orderDate >= :from) " +
+            "AND (:to IS NULL OR o.orderDate < :to) " +
+            "ORDER BY o.id, oi.id")
+    Stream<OrderExportRow> streamExportRows(@Param("orderStatus") OrderStatus orderStatus,
+                                            @Param("deliveryStatus") DeliveryStatus deliveryStatus,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
 }
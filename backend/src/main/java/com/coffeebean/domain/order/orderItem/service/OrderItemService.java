@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -12,7 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.coffeebean.domain.cart.cart.entity.Cart;
 import com.coffeebean.domain.cart.cart.service.CartService;
 import com.coffeebean.domain.item.entity.Item;
-import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.item.service.ItemService;
 import com.coffeebean.domain.order.order.entity.Order;
 import com.coffeebean.domain.order.orderItem.entity.OrderItem;
 import com.coffeebean.domain.order.orderItem.repository.OrderItemRepository;
@@ -28,20 +29,27 @@ import lombok.RequiredArgsConstructor;
 public class OrderItemService {
 
 	private final OrderItemRepository orderItemRepository;
-	private final ItemRepository itemRepository;
 	private final UserRepository userRepository;
 	private final CartService cartService;
 	private final UserService userService;
+	private final ItemService itemService;
 
+	/**
+	 * 주문 상세 항목 생성
+	 * 주문 상품은 호출 측에서 일괄 조회한 스냅샷(items)을 그대로 사용해 상품별 재조회를 하지 않는다.
+	 */
 	@Transactional
-	public List<OrderItem> createOrderItem(Order order, Map<Long, Integer> items, String email, boolean isCartOrder,
-		int point) {
+	public List<OrderItem> createOrderItem(Order order, Map<Long, Item> items, Map<Long, Integer> counts,
+		String email, boolean isCartOrder, int point) {
 		List<OrderItem> orderItems = new ArrayList<>();
 
-		for (Long itemId : items.keySet()) {
-			int count = items.get(itemId);
-			Item item = itemRepository.findById(itemId)
-				.orElseThrow(() -> new DataNotFoundException("주문하려는 상품이 존재하지 않습니다."));
+		// 상품 id 순서로 차감해 동시 주문 간 행 잠금 순서를 맞춘다 (데드락 방지)
+		for (Long itemId : new TreeSet<>(counts.keySet())) {
+			int count = counts.get(itemId);
+			Item item = items.get(itemId);
+			if (item == null) {
+				throw new DataNotFoundException("주문하려는 상품이 존재하지 않습니다.");
+			}
 
 			OrderItem orderItem = OrderItem.builder()
 				.order(order)
@@ -50,10 +58,10 @@ public class OrderItemService {
 				.orderPrice(item.getPrice())
 				.build();
 
-			orderItemRepository.save(orderItem);
-			item.reduceStock(count);
+			itemService.reserveStock(itemId, count);
 			orderItems.add(orderItem);
 		}
+		orderItemRepository.saveAll(orderItems);
 
 		// 장바구니에서 구매했다면 장바구니에서 해당 상품 삭제
 		Optional<User> opActor = userRepository.findByEmail(email);
@@ -0,0 +1,6 @@
+package com.coffeebean.domain.order.outbox;
+
+public enum OutboxStatus {
+
+	PENDING, SENDING, SENT, FAILED;
+}
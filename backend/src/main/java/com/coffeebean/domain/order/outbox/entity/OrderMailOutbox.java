@@ -0,0 +1,102 @@
+package com.coffeebean.domain.order.outbox.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.coffeebean.domain.order.outbox.OutboxStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 알림 메일 아웃박스
+ * 주문/배송 상태 변경과 같은 트랜잭션에서 저장되고, 커밋된 행만 OrderMailOutboxPoller가 발송한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_order_mail_outbox_status", columnList = "status, id"))
+public class OrderMailOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private String email; // 수신자 이메일
+
+	private String subject; // 메일 제목
+
+	@Lob
+	@Column(columnDefinition = "TEXT")
+	private String content; // 메일 내용
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 10, nullable = false)
+	@Builder.Default
+	private OutboxStatus status = OutboxStatus.PENDING; // 발송 상태
+
+	@Builder.Default
+	private int attempts = 0; // 발송 시도 횟수
+
+	@CreatedDate
+	private LocalDateTime createDate;
+
+	private LocalDateTime claimedDate; // 발송 선점 시각
+
+	private LocalDateTime sentDate; // 발송 완료 시각
+
+	private LocalDateTime nextAttemptDate; // 재시도 가능 시각 (null이면 바로 발송)
+
+	// 발송 선점 (다른 폴링 주기에서 중복 발송 방지)
+	// 선점 시각은 발송 결과를 반영할 때 같은 선점인지 비교하므로 DB에 그대로 저장되는 밀리초 단위로 자름
+	public void markSending() {
+		status = OutboxStatus.SENDING;
+		claimedDate = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+	}
+
+	public void markSent() {
+		status = OutboxStatus.SENT;
+		sentDate = LocalDateTime.now();
+	}
+
+	// 발송을 시도하지 못했거나 선점한 서버가 종료됨 - 시도 횟수를 늘리지 않고 다시 대기 상태로
+	public void release() {
+		status = OutboxStatus.PENDING;
+		claimedDate = null;
+	}
+
+	/**
+	 * 발송 실패 - 최대 시도 횟수 전까지는 다시 대기 상태로 (재시도 간격은 시도마다 2배)
+	 * 주소 오류 같은 영구 실패(retryable=false)는 바로 FAILED
+	 */
+	public void markFailed(int maxAttempts, long backoffMillis, boolean retryable) {
+		attempts++;
+		if (!retryable || attempts >= maxAttempts) {
+			status = OutboxStatus.FAILED;
+			return;
+		}
+		status = OutboxStatus.PENDING;
+		nextAttemptDate = LocalDateTime.now().plusNanos((backoffMillis << (attempts - 1)) * 1_000_000);
+	}
+}
@@ -0,0 +1,46 @@
+package com.coffeebean.domain.order.outbox.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.coffeebean.domain.order.outbox.OutboxStatus;
+import com.coffeebean.domain.order.outbox.entity.OrderMailOutbox;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface OrderMailOutboxRepository extends JpaRepository<OrderMailOutbox, Long> {
+
+	// 발송 대기 중인 메일을 오래된 순으로 조회 (재시도 대기 시간이 지나지 않은 메일 제외)
+	@Query("select o from OrderMailOutbox o where o.status = :status " +
+		"and (o.nextAttemptDate is null or o.nextAttemptDate <= :now) order by o.id asc")
+	List<OrderMailOutbox> findSendable(@Param("status") OutboxStatus status,
+		@Param("now") LocalDateTime now,
+		Pageable pageable);
+
+	// 선점 후 오래 완료되지 않은 메일 (발송 도중 서버가 종료되었을 수 있음)
+	@Query("select o from OrderMailOutbox o where o.status = :sending and o.claimedDate < :cutoff")
+	List<OrderMailOutbox> findStaleClaims(@Param("sending") OutboxStatus sending,
+		@Param("cutoff") LocalDateTime cutoff);
+
+	// 아직 같은 선점 상태인 메일 (선점이 풀려 다시 선점된 메일에 이전 발송 결과를 반영하지 않도록)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select o from OrderMailOutbox o where o.id = :id and o.status = :sending and o.claimedDate = :claimed")
+	Optional<OrderMailOutbox> findClaimed(@Param("id") Long id,
+		@Param("sending") OutboxStatus sending,
+		@Param("claimed") LocalDateTime claimed);
+
+	// 보관 기간이 지난 발송 완료 메일 삭제
+	@Modifying
+	@Query("delete from OrderMailOutbox o where o.status = :sent and o.sentDate < :cutoff")
+	int deleteSentBefore(@Param("sent") OutboxStatus sent, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,98 @@
+package com.coffeebean.domain.order.outbox.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.coffeebean.domain.order.outbox.entity.OrderMailOutbox;
+import com.coffeebean.global.email.MailDispatcher;
+import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.lock.SchedulerLockService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderMailOutboxPoller {
+
+	private final OrderMailOutboxService orderMailOutboxService;
+	private final MailDispatcher mailDispatcher;
+	private final SchedulerLockService schedulerLockService;
+
+	// 이 서버에서 발송 요청 후 결과를 기다리는 메일 (선점 시간이 지나도 다시 대기 상태로 돌리지 않음)
+	private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+	@Value("${mail.outbox.batch-size:100}")
+	private int batchSize;
+
+	// 커밋된 알림 메일을 일괄 선점해 발송 (DB 트랜잭션은 SMTP 발송을 기다리지 않음)
+	// 여러 노드가 같은 메일을 동시에 선점하지 않도록 선점은 잠금을 얻은 노드만 수행
+	@Scheduled(fixedDelayString = "${mail.outbox.poll-delay-ms:1000}")
+	public void poll() {
+		schedulerLockService.runWithLock("order-mail-outbox", this::dispatchPending);
+	}
+
+	// 보관 기간이 지난 발송 완료 메일 정리 (아웃박스 테이블이 계속 커지지 않게)
+	@Scheduled(initialDelayString = "${mail.outbox.purge-delay-ms:3600000}",
+		fixedDelayString = "${mail.outbox.purge-delay-ms:3600000}")
+	public void purge() {
+		schedulerLockService.runWithLock("order-mail-outbox-purge", () -> {
+			int deleted = orderMailOutboxService.purgeSent();
+			if (deleted > 0) {
+				log.info("발송 완료 알림 메일 정리. deleted={}", deleted);
+			}
+		});
+	}
+
+	// 발송 대기열에 들어갈 만큼만 선점 (대기열이 가득 찬 동안 선점한 메일이 시도 횟수만 소진하지 않게)
+	private void dispatchPending() {
+		int capacity = Math.min(batchSize, mailDispatcher.availableCapacity());
+		if (capacity == 0) {
+			return;
+		}
+		List<OrderMailOutbox> outboxes = orderMailOutboxService.claimPending(capacity, Set.copyOf(inFlight));
+
+		for (OrderMailOutbox outbox : outboxes) {
+			Long id = outbox.getId();
+			LocalDateTime claimedDate = outbox.getClaimedDate();
+			inFlight.add(id);
+			// 재시도는 아웃박스가 담당 (MailDispatcher는 한 번만 시도)
+			mailDispatcher.dispatch(outbox.getEmail(), outbox.getSubject(), outbox.getContent(), 1)
+				.whenComplete((result, e) -> {
+					try {
+						if (e == null) {
+							orderMailOutboxService.markSent(id, claimedDate);
+						} else if (isLocallyRejected(e)) {
+							orderMailOutboxService.release(id, claimedDate);
+						} else {
+							log.warn("알림 메일 발송 실패. outboxId={}", id);
+							orderMailOutboxService.markFailed(id, claimedDate, isRetryable(e));
+						}
+					} finally {
+						inFlight.remove(id);
+					}
+				});
+		}
+	}
+
+	// 이 서버의 발송 대기열 초과 - SMTP 발송을 시도하지 않았으므로 실패가 아님
+	private boolean isLocallyRejected(Throwable e) {
+		Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		return cause instanceof RejectedExecutionException;
+	}
+
+	// 일시적인 오류(5xx)만 재시도 (주소 오류 같은 4xx는 재시도해도 실패)
+	private boolean isRetryable(Throwable e) {
+		Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		return !(cause instanceof ServiceException serviceException) || serviceException.getStatusCode() >= 500;
+	}
+}
@@ -0,0 +1,92 @@
+package com.coffeebean.domain.order.outbox.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.order.outbox.OutboxStatus;
+import com.coffeebean.domain.order.outbox.entity.OrderMailOutbox;
+import com.coffeebean.domain.order.outbox.repository.OrderMailOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OrderMailOutboxService {
+
+	private final OrderMailOutboxRepository orderMailOutboxRepository;
+
+	@Value("${mail.outbox.max-attempts:5}")
+	private int maxAttempts;
+
+	@Value("${mail.outbox.backoff-ms:5000}")
+	private long backoffMillis;
+
+	@Value("${mail.outbox.claim-timeout-minutes:10}")
+	private long claimTimeoutMinutes;
+
+	@Value("${mail.outbox.retention-days:7}")
+	private long retentionDays;
+
+	// 알림 메일 등록 - 반드시 주문/배송 상태를 변경하는 트랜잭션 안에서 호출
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void enqueue(String email, String subject, String content) {
+		orderMailOutboxRepository.save(OrderMailOutbox.builder()
+			.email(email)
+			.subject(subject)
+			.content(content)
+			.build());
+	}
+
+	/**
+	 * 커밋된 발송 대기 메일을 batchSize만큼 선점
+	 * 선점 시간이 지난 메일은 다시 대기 상태로 돌리되, 이 서버에서 아직 발송 중인 메일(inFlight)은 제외 (중복 발송 방지)
+	 */
+	@Transactional
+	public List<OrderMailOutbox> claimPending(int batchSize, Collection<Long> inFlight) {
+		orderMailOutboxRepository.findStaleClaims(OutboxStatus.SENDING,
+				LocalDateTime.now().minusMinutes(claimTimeoutMinutes)).stream()
+			.filter(outbox -> !inFlight.contains(outbox.getId()))
+			.forEach(OrderMailOutbox::release);
+
+		List<OrderMailOutbox> outboxes = orderMailOutboxRepository.findSendable(OutboxStatus.PENDING,
+			LocalDateTime.now(), PageRequest.of(0, batchSize));
+		outboxes.forEach(OrderMailOutbox::markSending);
+		return outboxes;
+	}
+
+	// 발송 결과 반영은 선점 당시 상태 그대로인 경우에만 (claimedDate: 선점 시각)
+	@Transactional
+	public void markSent(Long id, LocalDateTime claimedDate) {
+		findClaimed(id, claimedDate).ifPresent(OrderMailOutbox::markSent);
+	}
+
+	// 발송을 시도하지 못한 메일 반환 (시도 횟수에 포함하지 않음)
+	@Transactional
+	public void release(Long id, LocalDateTime claimedDate) {
+		findClaimed(id, claimedDate).ifPresent(OrderMailOutbox::release);
+	}
+
+	@Transactional
+	public void markFailed(Long id, LocalDateTime claimedDate, boolean retryable) {
+		findClaimed(id, claimedDate).ifPresent(outbox -> outbox.markFailed(maxAttempts, backoffMillis, retryable));
+	}
+
+	private Optional<OrderMailOutbox> findClaimed(Long id, LocalDateTime claimedDate) {
+		return orderMailOutboxRepository.findClaimed(id, OutboxStatus.SENDING, claimedDate);
+	}
+
+	// 보관 기간이 지난 발송 완료 메일 삭제 (실패한 메일은 확인할 수 있도록 남김)
+	@Transactional
+	public int purgeSent() {
+		return orderMailOutboxRepository.deleteSentBefore(OutboxStatus.SENT,
+			LocalDateTime.now().minusDays(retentionDays));
+	}
+}
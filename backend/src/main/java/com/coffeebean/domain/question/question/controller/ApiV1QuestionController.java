@@ -90,6 +90,21 @@ public class ApiV1QuestionController {
 	}
 
 
+	// 질문 검색 - 제목/내용 (관련도 순)
+	@GetMapping("/search")
+	public RsData<List<QuestionDto>> searchQuestions(@RequestParam("q") String query,
+		@RequestParam(defaultValue = "20") int size) {
+		List<QuestionDto> questions = questionService.searchQuestions(query, size).stream()
+			.map(QuestionDto::new)
+			.toList();
+
+		return new RsData<>(
+			"200-1",
+			"질문 검색 결과 %d건이 조회되었습니다.".formatted(questions.size()),
+			questions
+		);
+	}
+
 	// 질문 삭제 - 유저
 	@DeleteMapping("/{id}")
 	public RsData<Void> deleteQuestion(
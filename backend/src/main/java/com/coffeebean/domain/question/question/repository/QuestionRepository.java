@@ -1,5 +1,6 @@
 package com.coffeebean.domain.question.question.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +21,8 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
 
 	@EntityGraph(attributePaths = {"author", "answer"})
 	List<Question> findByItemId(Long itemId);
+
+	// 검색 결과 일괄 조회 (순서는 호출하는 쪽에서 관련도 순으로 맞춤)
+	@EntityGraph(attributePaths = {"author", "answer"})
+	List<Question> findByIdIn(Collection<Long> ids);
 }
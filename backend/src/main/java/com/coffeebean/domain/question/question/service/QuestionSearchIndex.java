@@ -0,0 +1,48 @@
+package com.coffeebean.domain.question.question.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.coffeebean.domain.question.question.entity.Question;
+import com.coffeebean.global.search.InvertedIndex;
+import com.coffeebean.global.search.InvertedIndex.Field;
+import com.coffeebean.global.search.SearchIndexTransactions;
+
+/**
+ * 질문 검색 색인 (질문 제목 + 질문 내용, 상품 검색과 같은 한국어 n-gram 분석)
+ * 색인 변경은 트랜잭션 커밋 후에 반영한다.
+ */
+@Component
+public class QuestionSearchIndex {
+
+	private static final int SUBJECT_WEIGHT = 2;
+	private static final int CONTENT_WEIGHT = 1;
+
+	private final InvertedIndex index = new InvertedIndex();
+
+	public void index(Question question) {
+		long id = question.getId();
+		List<Field> fields = List.of(
+			new Field(question.getSubject(), SUBJECT_WEIGHT),
+			new Field(question.getContent(), CONTENT_WEIGHT)
+		);
+		SearchIndexTransactions.afterCommit(() -> index.put(id, fields));
+	}
+
+	public void remove(long questionId) {
+		SearchIndexTransactions.afterCommit(() -> index.remove(questionId));
+	}
+
+	public void clear() {
+		index.clear();
+	}
+
+	public int size() {
+		return index.size();
+	}
+
+	public List<Long> search(String query, int limit) {
+		return index.search(query, limit);
+	}
+}
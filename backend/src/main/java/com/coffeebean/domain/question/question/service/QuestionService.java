@@ -1,7 +1,18 @@
 package com.coffeebean.domain.question.question.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,13 +25,21 @@ import com.coffeebean.global.exception.DataNotFoundException;
 import com.coffeebean.global.exception.ServiceException;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class QuestionService {
 
+	private static final int SEARCH_INDEX_BATCH_SIZE = 1000;
+
 	private final QuestionRepository questionRepository;
 	private final ItemService itemService;
+	private final QuestionSearchIndex questionSearchIndex;
+
+	@Value("${question.search.max-size:50}")
+	private int searchMaxSize;
 
 	@Transactional
 	public void writeQuestion(User author, long itemId, String subject, String content) {
@@ -35,6 +54,7 @@ public class QuestionService {
 			.build();
 
 		questionRepository.save(question);
+		questionSearchIndex.index(question);
 	}
 
 	@Transactional(readOnly = true)
@@ -53,6 +73,7 @@ public class QuestionService {
 		Question question = questionRepository.findById(id)
 			.orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 질문입니다."));
 		questionRepository.delete(question);
+		questionSearchIndex.remove(id);
 	}
 
 	@Transactional
@@ -65,4 +86,34 @@ public class QuestionService {
 	public List<Question> getQuestionsByItemId(Long itemId) {
 		return questionRepository.findByItemId(itemId);
 	}
+
+	// 질문 검색 (제목/내용, 관련도 순)
+	@Transactional(readOnly = true)
+	public List<Question> searchQuestions(String query, int size) {
+		List<Long> ids = questionSearchIndex.search(query, Math.clamp(size, 1, searchMaxSize));
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Question> questions = questionRepository.findByIdIn(ids).stream()
+			.collect(Collectors.toMap(Question::getId, Function.identity()));
+		return ids.stream()
+			.map(questions::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	// 기동 시 전체 질문으로 검색 색인 구성
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildSearchIndex() {
+		questionSearchIndex.clear();
+		Pageable pageable = PageRequest.of(0, SEARCH_INDEX_BATCH_SIZE, Sort.by("id"));
+		Page<Question> page;
+		do {
+			page = questionRepository.findAll(pageable);
+			page.forEach(questionSearchIndex::index);
+			pageable = page.nextPageable();
+		} while (page.hasNext());
+		log.info("질문 검색 색인 구성 완료. questions={}", questionSearchIndex.size());
+	}
 }
@@ -0,0 +1,34 @@
+package com.coffeebean.domain.review.review;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.coffeebean.global.exception.ServiceException;
+
+/**
+ * 리뷰 목록 페이지 커서 (마지막으로 내려준 리뷰의 별점, 작성 시간, 리뷰 ID)
+ * 첫 페이지는 모든 리뷰보다 뒤에 있는 FIRST 커서로 조회해 쿼리를 하나로 유지한다.
+ */
+public record ReviewCursor(int rating, LocalDateTime createDate, Long reviewId) {
+
+    public static final ReviewCursor FIRST = new ReviewCursor(6, LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = rating + "_" + createDate + "_" + reviewId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReviewCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("_");
+            return new ReviewCursor(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ServiceException("400-1", "잘못된 커서입니다.");
+        }
+    }
+}
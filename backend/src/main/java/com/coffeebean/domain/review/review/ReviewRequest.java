@@ -22,4 +22,7 @@ public class ReviewRequest {
 
     @Nullable()
     private MultipartFile originalFileName;
+
+    @Nullable
+    private String imageFileName; // 스트리밍 업로드(POST /api/reviews/images)로 미리 올린 파일명
 }
@@ -0,0 +1,27 @@
+package com.coffeebean.domain.review.review;
+
+import com.coffeebean.global.exception.ServiceException;
+
+// 리뷰 목록 정렬 (둘 다 최신순으로 동점 처리)
+public enum ReviewSort {
+
+    NEWEST("newest"), RATING("rating");
+
+    private final String value;
+
+    ReviewSort(String value) {
+        this.value = value;
+    }
+
+    public static ReviewSort from(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return NEWEST;
+        }
+        for (ReviewSort value : values()) {
+            if (value.value.equalsIgnoreCase(sort)) {
+                return value;
+            }
+        }
+        throw new ServiceException("400-1", "지원하지 않는 정렬입니다. (newest, rating)");
+    }
+}
@@ -0,0 +1,177 @@
+package com.coffeebean.domain.review.review.controller;
+
+import com.coffeebean.domain.review.review.service.FileStorageService;
+import com.coffeebean.global.exception.FileNotFoundException;
+import com.coffeebean.global.image.ImageVariant;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 조회 (/files/**)
+ * - ETag: 파일 내용의 SHA-256 (If-None-Match가 일치하면 304)
+ * - Range: 단일 구간 요청은 206으로 일부만 전송 (여러 구간 요청은 전체 전송)
+ * - UUID/내용 해시 파일명은 내용이 바뀌지 않으므로 1년 immutable 캐시, 그 외에는 매번 ETag로 재검증
+ * - 본문은 Tomcat sendfile(커널에서 바로 소켓으로 복사)로 보내고, 지원하지 않으면 FileChannel.transferTo로 복사
+ */
+@RestController
+@RequestMapping("/files")
+@RequiredArgsConstructor
+public class FileController {
+
+    private static final Pattern IMMUTABLE_FILE_NAME =
+            Pattern.compile("^([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}|[0-9a-f]{64})(\\.[A-Za-z0-9]+)*$");
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE_CACHE_CONTROL = "no-cache";
+
+    // 작은 파일은 sendfile 준비 비용이 더 커서 직접 복사 (Tomcat DefaultServlet 기본값과 같음)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final FileStorageService fileStorageService;
+
+    @RequestMapping(value = "/{fileName}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getFile(@PathVariable String fileName,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        boolean variantPending = false;
+        Resource resource;
+        try {
+            resource = fileStorageService.loadFile(fileName);
+        } catch (FileNotFoundException e) {
+            // 변환본이 아직 만들어지지 않았으면 원본 제공 (변환본이 생기면 바뀌므로 캐시하지 않음)
+            Optional<String> original = ImageVariant.originalOf(fileName);
+            if (original.isEmpty()) {
+                throw e;
+            }
+            resource = fileStorageService.loadFile(original.get());
+            variantPending = true;
+        }
+
+        Path file = resource.getFile().toPath();
+        long fileSize = resource.contentLength();
+        String etag = "\"" + fileStorageService.getContentHash(file) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                !variantPending && IMMUTABLE_FILE_NAME.matcher(fileName).matches()
+                        ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(resource)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+
+        long start = 0;
+        long length = fileSize;
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(fileSize);
+                length = range.getRangeEnd(fileSize) - start + 1;
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes %d-%d/%d".formatted(start, start + length - 1, fileSize));
+        }
+        response.setContentLengthLong(length);
+
+        if (RequestMethod.HEAD.name().equals(request.getMethod())) {
+            return;
+        }
+        writeBody(file, start, length, request, response);
+    }
+
+    // If-None-Match는 약한 비교 (W/ 접두어 무시), "*"는 모든 ETag와 일치
+    private boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 처리할 Range (없으면 null)
+     * 형식이 잘못됐거나 여러 구간이면 Range를 무시하고 전체를 보낸다.
+     * If-Range가 현재 ETag와 다르면(그 사이 파일이 바뀌었으면) 역시 전체를 보낸다.
+     */
+    private HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void writeBody(Path file, long start, long length,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (length >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long end = start + length;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+}
@@ -3,10 +3,12 @@ package com.coffeebean.domain.review.review.controller;
 import com.coffeebean.domain.review.review.ReviewRequest;
 import com.coffeebean.domain.review.review.ReviewableOrderItemDto;
 import com.coffeebean.domain.review.review.entity.ReviewDetailDto;
+import com.coffeebean.domain.review.review.service.FileStorageService;
 import com.coffeebean.domain.review.review.service.ReviewService;
 import com.coffeebean.domain.user.user.service.UserService;
 import com.coffeebean.global.annotation.Login;
 import com.coffeebean.global.util.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @Slf4j
@@ -25,6 +28,7 @@ public class ReviewController {
 
     private final ReviewService reviewService;
     private final UserService userService;
+    private final FileStorageService fileStorageService;
 
     /**
      * 작성 가능한 리뷰 조회 API
@@ -54,6 +58,17 @@ public class ReviewController {
         return ResponseEntity.ok().body(reviews);
     }
 
+    /**
+     * 리뷰 이미지 업로드 - 요청 본문(이미지 바이트)을 그대로 저장 (multipart 임시 파일/메모리 버퍼링 없음)
+     * 반환된 파일명을 리뷰 작성/수정의 imageFileName으로 사용
+     */
+    @PostMapping(value = "/images", consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE,
+            MediaType.IMAGE_GIF_VALUE, "image/webp"})
+    public ResponseEntity<String> uploadImage(@Login CustomUserDetails userDetails,
+                                              HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(fileStorageService.storeFile(request.getInputStream(), request.getContentLengthLong()));
+    }
+
     /**
      * [요청 형식]
      * POST /api/reviews/123
@@ -10,6 +10,7 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.data.annotation.CreatedDate;
 
+import com.coffeebean.domain.item.entity.Item;
 import com.coffeebean.domain.order.orderItem.entity.OrderItem;
 import com.coffeebean.domain.user.user.enitity.User;
 
@@ -26,6 +27,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+	@Index(name = "idx_review_item_create_date", columnList = "item_id, create_date, review_id"),
+	@Index(name = "idx_review_item_rating", columnList = "item_id, rating, create_date, review_id"),
+	@Index(name = "idx_review_create_date", columnList = "create_date, review_id"),
+	@Index(name = "idx_review_rating", columnList = "rating, create_date, review_id"),
+	@Index(name = "idx_review_generated_file_name", columnList = "generated_file_name")
+})
 public class Review {
 
 	@Id
@@ -41,6 +49,11 @@ public class Review {
 	@JoinColumn(name = "order_item_id")
 	private OrderItem orderItem;
 
+	// 상품별 리뷰 목록을 인덱스만으로 페이징하기 위해 주문 상품의 상품을 함께 저장
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "item_id")
+	private Item item;
+
 	@Lob
 	@Column(columnDefinition = "TEXT")
 	private String content;    // 리뷰 내용
@@ -56,7 +69,7 @@ public class Review {
 	private String originalFileName;
 
 	@Column(nullable = true)
-	private String generatedFileName; // DB 저장용 -> 사용자 입력을 UUID로 변환 후 저장 (중복 방지)
+	private String generatedFileName; // DB 저장용 -> 파일 내용의 SHA-256 (같은 사진은 한 파일을 공유)
 
 	// 별점 오류 처리 (선택하지 않는 경우 방지)
 	public Review(User user, OrderItem orderItem, String content, int rating) {
@@ -66,6 +79,7 @@ public class Review {
 		}
 		this.user = user;
 		this.orderItem = orderItem;
+		this.item = orderItem.getItem();
 		this.content = content;
 		this.rating = rating;
 	}
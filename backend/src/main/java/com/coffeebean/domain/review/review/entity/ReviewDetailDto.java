@@ -19,6 +19,7 @@ public class ReviewDetailDto {
     private String content;
     private int rating;
     private LocalDateTime createDate;
-    private String imageUrl;
+    private String imageUrl; // 원본
+    private String thumbnailUrl; // 목록용 썸네일
 
 }
@@ -0,0 +1,15 @@
+package com.coffeebean.domain.review.review.entity;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 리뷰 목록 한 페이지 + 다음 페이지 커서 (마지막 페이지면 null)
+public class ReviewPageDto {
+
+	private List<ReviewDetailNotImageDto> reviews;
+	private String nextCursor;
+}
@@ -0,0 +1,47 @@
+package com.coffeebean.domain.review.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 리뷰 집계 (리뷰 수, 별점 합계, 별점별 개수)
+ * 리뷰 작성/수정/삭제 트랜잭션 안에서 증감 UPDATE로 함께 갱신된다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewSummary {
+
+	@Id
+	@Column(name = "item_id")
+	private Long itemId;
+
+	@Column(name = "review_count", nullable = false)
+	private long reviewCount;
+
+	@Column(name = "rating_sum", nullable = false)
+	private long ratingSum;
+
+	@Column(name = "star1", nullable = false)
+	private long star1;
+
+	@Column(name = "star2", nullable = false)
+	private long star2;
+
+	@Column(name = "star3", nullable = false)
+	private long star3;
+
+	@Column(name = "star4", nullable = false)
+	private long star4;
+
+	@Column(name = "star5", nullable = false)
+	private long star5;
+}
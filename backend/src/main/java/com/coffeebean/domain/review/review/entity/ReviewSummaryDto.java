@@ -0,0 +1,37 @@
+package com.coffeebean.domain.review.review.entity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 상품 상세 페이지 별점 요약 DTO
+public class ReviewSummaryDto {
+
+	private Long itemId;
+	private long reviewCount;
+	private double averageRating;       // 소수점 첫째 자리까지
+	private Map<Integer, Long> ratingCounts; // 별점(1~5)별 리뷰 수
+
+	public ReviewSummaryDto(ReviewSummary summary) {
+		this.itemId = summary.getItemId();
+		this.reviewCount = summary.getReviewCount();
+		this.averageRating = summary.getReviewCount() == 0
+			? 0
+			: Math.round(summary.getRatingSum() * 10.0 / summary.getReviewCount()) / 10.0;
+		this.ratingCounts = new LinkedHashMap<>();
+		ratingCounts.put(1, summary.getStar1());
+		ratingCounts.put(2, summary.getStar2());
+		ratingCounts.put(3, summary.getStar3());
+		ratingCounts.put(4, summary.getStar4());
+		ratingCounts.put(5, summary.getStar5());
+	}
+
+	// 리뷰가 아직 없는 상품
+	public static ReviewSummaryDto empty(Long itemId) {
+		return new ReviewSummaryDto(ReviewSummary.builder().itemId(itemId).build());
+	}
+}
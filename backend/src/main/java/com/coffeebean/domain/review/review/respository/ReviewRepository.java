@@ -7,10 +7,13 @@ import com.coffeebean.domain.user.user.enitity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,9 +26,56 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r.orderItem.id FROM Review r WHERE r.user.id = :userId")
     List<Long> findReviewedOrderItemIdsByUserId(@Param("userId") Long userId);
 
+    // 업로드 파일 중 리뷰가 참조하는 파일명 (idx_review_generated_file_name)
+    @Query("SELECT DISTINCT r.generatedFileName FROM Review r WHERE r.generatedFileName IN :fileNames")
+    List<String> findGeneratedFileNamesIn(@Param("fileNames") Collection<String> fileNames);
+
+    // 상품별 최신순 - 커서(작성 시간, 리뷰 ID) 이후 (idx_review_item_create_date)
+    @Query("SELECT new com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto(r.id, r.content, r.rating, r.createDate) " +
+            "FROM Review r WHERE r.item.id = :itemId " +
+            "AND (r.createDate < :createDate OR (r.createDate = :createDate AND r.id < :reviewId)) " +
+            "ORDER BY r.createDate DESC, r.id DESC")
+    List<ReviewDetailNotImageDto> findByItemIdNewest(@Param("itemId") Long itemId,
+                                                     @Param("createDate") LocalDateTime createDate,
+                                                     @Param("reviewId") Long reviewId,
+                                                     Pageable pageable);
+
+    // 상품별 별점 높은 순 - 커서(별점, 작성 시간, 리뷰 ID) 이후 (idx_review_item_rating)
+    @Query("SELECT new com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto(r.id, r.content, r.rating, r.createDate) " +
+            "FROM Review r WHERE r.item.id = :itemId " +
+            "AND (r.rating < :rating OR (r.rating = :rating AND " +
+            "(r.createDate < :createDate OR (r.createDate = :createDate AND r.id < :reviewId)))) " +
+            "ORDER BY r.rating DESC, r.createDate DESC, r.id DESC")
+    List<ReviewDetailNotImageDto> findByItemIdRating(@Param("itemId") Long itemId,
+                                                     @Param("rating") int rating,
+                                                     @Param("createDate") LocalDateTime createDate,
+                                                     @Param("reviewId") Long reviewId,
+                                                     Pageable pageable);
+
+    // 전체 최신순 - 관리자 (idx_review_create_date)
+    @Query("SELECT new com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto(r.id, r.content, r.rating, r.createDate) " +
+            "FROM Review r " +
+            "WHERE r.createDate < :createDate OR (r.createDate = :createDate AND r.id < :reviewId) " +
+            "ORDER BY r.createDate DESC, r.id DESC")
+    List<ReviewDetailNotImageDto> findAllNewest(@Param("createDate") LocalDateTime createDate,
+                                                @Param("reviewId") Long reviewId,
+                                                Pageable pageable);
+
+    // 전체 별점 높은 순 - 관리자 (idx_review_rating)
     @Query("SELECT new com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto(r.id, r.content, r.rating, r.createDate) " +
-            "FROM Review r JOIN r.orderItem oi JOIN oi.item i WHERE i.id = :itemId")
-    List<ReviewDetailNotImageDto> findByItemId(@Param("itemId") Long itemId);
+            "FROM Review r " +
+            "WHERE r.rating < :rating OR (r.rating = :rating AND " +
+            "(r.createDate < :createDate OR (r.createDate = :createDate AND r.id < :reviewId))) " +
+            "ORDER BY r.rating DESC, r.createDate DESC, r.id DESC")
+    List<ReviewDetailNotImageDto> findAllRating(@Param("rating") int rating,
+                                                @Param("createDate") LocalDateTime createDate,
+                                                @Param("reviewId") Long reviewId,
+                                                Pageable pageable);
 
-    List<Review> findAllByOrderByCreateDateDesc();
+    // item_id 컬럼 추가 전에 작성된 리뷰에 주문 상품의 상품 ID 채우기
+    @Modifying
+    @Query(value = "update review r set item_id = " +
+            "(select oi.item_id from order_item oi where oi.id = r.order_item_id) " +
+            "where r.item_id is null", nativeQuery = true)
+    int fillMissingItemIds();
 }
@@ -0,0 +1,35 @@
+package com.coffeebean.domain.review.review.respository;
+
+import com.coffeebean.domain.review.review.entity.ReviewSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReviewSummaryRepository extends JpaRepository<ReviewSummary, Long> {
+
+    // 집계 행이 없을 때만 생성 (동시에 첫 리뷰가 작성되어도 키 중복 예외 없이 한 행만 남음)
+    @Modifying
+    @Query(value = "insert ignore into review_summary " +
+            "(item_id, review_count, rating_sum, star1, star2, star3, star4, star5) " +
+            "values (:itemId, 0, 0, 0, 0, 0, 0, 0)", nativeQuery = true)
+    int insertIfAbsent(@Param("itemId") Long itemId);
+
+    // 읽지 않고 증감만 반영하므로 같은 상품에 동시에 리뷰가 작성되어도 갱신이 유실되지 않음
+    @Modifying
+    @Query("update ReviewSummary s set s.reviewCount = s.reviewCount + :count, s.ratingSum = s.ratingSum + :sum, " +
+            "s.star1 = s.star1 + :star1, s.star2 = s.star2 + :star2, s.star3 = s.star3 + :star3, " +
+            "s.star4 = s.star4 + :star4, s.star5 = s.star5 + :star5 " +
+            "where s.itemId = :itemId")
+    int applyDelta(@Param("itemId") Long itemId, @Param("count") long count, @Param("sum") long sum,
+                   @Param("star1") long star1, @Param("star2") long star2, @Param("star3") long star3,
+                   @Param("star4") long star4, @Param("star5") long star5);
+
+    // 집계 재구성용 - [상품 id, 별점, 리뷰 수]
+    @Query("SELECT oi.item.id, r.rating, count(r) FROM Review r JOIN r.orderItem oi GROUP BY oi.item.id, r.rating")
+    List<Object[]> countByItemIdAndRating();
+}
@@ -0,0 +1,77 @@
+package com.coffeebean.domain.review.review.service;
+
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.review.review.respository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 참조되지 않는 업로드 파일 정리
+ * 파일은 내용 해시로 저장되어 여러 리뷰/상품이 한 파일을 공유하므로, 참조 수를 따로 관리하지 않고
+ * 정리할 때 리뷰(generatedFileName)와 상품(imageFileName)에서 참조 여부를 직접 확인한다 (mark & sweep).
+ * URL이 아닌 저장된 파일명으로 비교하므로 파일 제공 주소가 바뀌어도 참조 중인 파일을 지우지 않는다.
+ * 업로드 후 리뷰/상품 저장이 커밋되기 전의 파일을 지우지 않도록 유예 기간이 지난 파일만 대상으로 한다.
+ * 업로드 디렉토리는 노드마다 따로 있으므로 스케줄러 잠금 없이 노드마다 실행한다.
+ */
+@Slf4j
+@Service
+public class FileGarbageCollector {
+
+    private static final int BATCH_SIZE = 500; // IN 쿼리 한 번에 확인할 파일 수
+
+    private final FileStorageService fileStorageService;
+    private final ReviewRepository reviewRepository;
+    private final ItemRepository itemRepository;
+    private final Duration grace;
+
+    public FileGarbageCollector(FileStorageService fileStorageService,
+                                ReviewRepository reviewRepository,
+                                ItemRepository itemRepository,
+                                @Value("${file.gc.grace-minutes:60}") long graceMinutes) {
+        this.fileStorageService = fileStorageService;
+        this.reviewRepository = reviewRepository;
+        this.itemRepository = itemRepository;
+        this.grace = Duration.ofMinutes(graceMinutes);
+    }
+
+    @Scheduled(initialDelayString = "${file.gc.delay-ms:3600000}", fixedDelayString = "${file.gc.delay-ms:3600000}")
+    public void sweep() {
+        sweep(Instant.now().minus(grace));
+    }
+
+    // 기준 시각 이전에 저장된 파일 중 참조되지 않는 파일 삭제 (삭제한 원본 수 반환)
+    public int sweep(Instant cutoff) {
+        List<String> candidates = fileStorageService.findFilesNotModifiedSince(cutoff);
+
+        int deleted = 0;
+        for (int from = 0; from < candidates.size(); from += BATCH_SIZE) {
+            List<String> batch = candidates.subList(from, Math.min(from + BATCH_SIZE, candidates.size()));
+            Set<String> referenced = findReferenced(batch);
+            for (String fileName : batch) {
+                if (!referenced.contains(fileName) && fileStorageService.deleteIfNotModifiedSince(fileName, cutoff)) {
+                    deleted++;
+                }
+            }
+        }
+        int orphans = fileStorageService.deleteOrphans(cutoff);
+
+        if (deleted > 0 || orphans > 0) {
+            log.info("업로드 파일 정리 완료. candidates={}, deleted={}, orphans={}", candidates.size(), deleted, orphans);
+        }
+        return deleted;
+    }
+
+    private Set<String> findReferenced(List<String> fileNames) {
+        Set<String> referenced = new HashSet<>(reviewRepository.findGeneratedFileNamesIn(fileNames));
+        referenced.addAll(itemRepository.findImageFileNamesIn(fileNames));
+        return referenced;
+    }
+}
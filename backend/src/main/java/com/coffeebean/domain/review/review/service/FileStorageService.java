@@ -2,6 +2,12 @@ package com.coffeebean.domain.review.review.service;
 
 import com.coffeebean.global.exception.FileNotFoundException;
 import com.coffeebean.global.exception.FileStorageException;
+import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.image.ImagePipeline;
+import com.coffeebean.global.image.ImageUploadWriter;
+import com.coffeebean.global.image.ImageVariant;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,22 +15,61 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileStorageService {
 
+    public static final String FILE_URL_PREFIX = "http://localhost:8080/files/"; // 클라이언트 접근 URL
+
+    private static final long HASH_CHUNK_SIZE = 64L * 1024 * 1024;
+    private static final Pattern CONTENT_ADDRESSED_FILE_NAME = Pattern.compile("^([0-9a-f]{64})(\\.[a-z0-9]+)?$");
+    private static final String TEMP_PREFIX = ".upload-";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    // 같은 파일을 동시에 저장(재사용)하고 삭제하는 경우를 막는 잠금 (파일명 해시로 분산)
+    private final Object[] fileLocks = Stream.generate(Object::new).limit(64).toArray();
+
+    // 변환 중인 원본 파일명 (같은 파일을 연달아 업로드해도 한 번만 변환)
+    private final Set<String> converting = ConcurrentHashMap.newKeySet();
+
+    private final ImagePipeline imagePipeline;
+    private final ImageUploadWriter imageUploadWriter;
+
+    // 파일 내용 해시 (파일명 + 크기 + 수정 시각 -> SHA-256), 조회할 때마다 파일 전체를 읽지 않도록 캐시
+    private final Cache<String, String> contentHashes = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
     @Value("${file.upload-dir}")  // yml에서 주입
     private String uploadDir;
 
@@ -38,34 +83,107 @@ public class FileStorageService {
         }
     }
 
-    // 서버에 사진 파일 저장
+    // 서버에 사진 파일 저장 (multipart 업로드)
     public String storeFile(MultipartFile file) {
-        String fileName = String.format("%s.%s",
-                UUID.randomUUID(),
-                getFileExtension(file.getOriginalFilename())
-        );
-        log.info("변경된 file name = {}", fileName);
+        try (InputStream input = file.getInputStream()) {
+            return storeFile(input, file.getSize());
+        } catch (IOException e) {
+            throw new FileStorageException("파일 저장 실패: " + file.getOriginalFilename());
+        }
+    }
 
-        Path targetLocation = Paths.get(uploadDir).resolve(fileName);
+    /**
+     * 업로드 스트림 저장 - 파일 내용의 SHA-256을 파일명으로 사용
+     * 임시 파일에 쓰면서 이미지 형식/크기 확인과 해시 계산을 함께 하고 (ImageUploadWriter),
+     * 같은 내용의 파일이 이미 있으면 임시 파일을 지우고 기존 파일을 재사용한다.
+     * 새 파일이면 원본 저장 후 썸네일/압축본을 비동기로 생성한다.
+     * 재사용하는 파일에 변환본이 없으면 (대기열이 가득 차 변환을 건너뛴 경우 등) 다시 변환을 요청한다.
+     *
+     * @param contentLength 요청에 적힌 크기 (모르면 -1) - 최대 크기를 넘으면 읽지 않고 바로 거절
+     */
+    public String storeFile(InputStream input, long contentLength) {
+        if (contentLength > imageUploadWriter.getMaxSize()) {
+            throw new ServiceException("413-1",
+                    "파일 크기는 %dMB 이하여야 합니다.".formatted(imageUploadWriter.getMaxSize() / (1024 * 1024)));
+        }
+
+        Path root = Paths.get(uploadDir);
+        Path temp = root.resolve(TEMP_PREFIX + UUID.randomUUID() + TEMP_SUFFIX);
         try {
-            Files.copy(file.getInputStream(), targetLocation,
-                    StandardCopyOption.REPLACE_EXISTING);
-            log.info("저장된 파일 경로 = {}", targetLocation);
+            ImageUploadWriter.Result result = imageUploadWriter.write(input, temp);
+            String fileName = result.hash() + "." + result.type().getExtension();
+            Path targetLocation = root.resolve(fileName);
+
+            synchronized (lockFor(fileName)) {
+                if (Files.exists(targetLocation)) {
+                    // 수정 시각을 갱신해 정리 작업의 유예 기간을 다시 시작 (참조가 DB에 반영되기 전에 지워지지 않게)
+                    Files.setLastModifiedTime(targetLocation, FileTime.from(Instant.now()));
+                    Files.delete(temp);
+                    log.info("같은 내용의 파일이 있어 재사용합니다. file name = {}", fileName);
+                    if (hasMissingVariant(targetLocation)) {
+                        convert(targetLocation);
+                    }
+                    return fileName;
+                }
+                Files.move(temp, targetLocation, StandardCopyOption.ATOMIC_MOVE);
+            }
+            log.info("저장된 파일 경로 = {}, size = {}", targetLocation, result.size());
+            convert(targetLocation);
             return fileName;
         } catch (IOException e) {
-            throw new FileStorageException("파일 저장 실패: " + fileName);
+            deleteQuietly(temp);
+            throw new FileStorageException("파일 저장 실패");
         }
     }
 
-    // 파일 확장자 추출해서 뒤에 붙이기 (확장자명만 봐도 어떤 건지 알 수 있게끔)
-    private String getFileExtension(String fileName) {
-        return StringUtils.getFilenameExtension(fileName);
+    private boolean hasMissingVariant(Path original) {
+        String fileName = original.getFileName().toString();
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!Files.exists(original.resolveSibling(variant.fileName(fileName)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 이미 변환 중인 파일이면 요청하지 않음
+    private void convert(Path original) {
+        String fileName = original.getFileName().toString();
+        if (converting.add(fileName)) {
+            imagePipeline.submit(original).whenComplete((result, e) -> converting.remove(fileName));
+        }
+    }
+
+    /**
+     * 업로드 API로 미리 저장한 파일을 상품/리뷰에서 참조 - 내용 해시 파일명의 원본만 허용 (임시 파일, 변환본 불가)
+     * 수정 시각을 갱신해 정리 작업의 유예 기간을 다시 시작한다 (참조가 DB에 반영되기 전에 지워지지 않게).
+     */
+    public String useStoredFile(String fileName) {
+        if (!CONTENT_ADDRESSED_FILE_NAME.matcher(fileName).matches()) {
+            throw new ServiceException("400-6", "업로드한 이미지 파일명이 아닙니다.");
+        }
+
+        Path file = Paths.get(uploadDir).resolve(fileName);
+        synchronized (lockFor(fileName)) {
+            try {
+                Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            } catch (NoSuchFileException e) {
+                throw new FileNotFoundException("파일을 찾을 수 없습니다. : " + fileName);
+            } catch (IOException e) {
+                throw new FileStorageException("파일 정보를 갱신할 수 없습니다: " + fileName);
+            }
+        }
+        return fileName;
     }
 
     // 사진 파일 조회
     public Resource loadFile(String fileName) {
         try {
-            Path filePath = Paths.get(uploadDir).resolve(fileName).normalize();
+            Path root = Paths.get(uploadDir).normalize();
+            Path filePath = root.resolve(fileName).normalize();
+            if (!filePath.startsWith(root)) { // ../ 로 업로드 디렉토리 밖의 파일을 읽지 못하게
+                throw new FileNotFoundException("파일을 찾을 수 없습니다. : " + fileName);
+            }
             Resource resource = new UrlResource(filePath.toUri());
 
             if (resource.exists()) {
@@ -77,4 +195,122 @@ public class FileStorageService {
             throw new FileStorageException("잘못된 파일 경로입니다: " + fileName);
         }
     }
+
+    // 파일 내용의 SHA-256 (ETag용) - 메모리 매핑으로 읽어 힙으로 복사하지 않음
+    public String getContentHash(Path file) {
+        Matcher contentAddressed = CONTENT_ADDRESSED_FILE_NAME.matcher(file.getFileName().toString());
+        if (contentAddressed.matches()) {
+            return contentAddressed.group(1); // 파일명이 곧 내용 해시
+        }
+        try {
+            String key = file.getFileName() + ":" + Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis();
+            return contentHashes.get(key, k -> hash(file));
+        } catch (IOException e) {
+            throw new FileStorageException("파일 정보를 읽을 수 없습니다: " + file.getFileName());
+        }
+    }
+
+    private String hash(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest digest = sha256();
+            long size = channel.size();
+            for (long position = 0; position < size; position += HASH_CHUNK_SIZE) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(HASH_CHUNK_SIZE, size - position));
+                digest.update(buffer);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 정리 대상 후보 - 기준 시각 이후 저장(재사용)되지 않은 원본 파일명 (변환본, 임시 파일 제외)
+    public List<String> findFilesNotModifiedSince(Instant cutoff) {
+        List<String> fileNames = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(uploadDir))) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (isTemp(fileName) || ImageVariant.originalOf(fileName).isPresent() || !Files.isRegularFile(file)) {
+                    continue;
+                }
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    fileNames.add(fileName);
+                }
+            }
+        } catch (IOException e) {
+            throw new FileStorageException("파일 목록을 읽을 수 없습니다: " + uploadDir);
+        }
+        return fileNames;
+    }
+
+    /**
+     * 원본과 변환본 삭제 - 기준 시각 이후 같은 파일이 다시 저장(재사용)됐으면 삭제하지 않음
+     * 변환본과 해시 캐시도 잠금 안에서 지운다 (같은 파일이 다시 저장되면서 다시 요청한 변환본을 지우지 않게).
+     *
+     * @return 삭제했으면 true
+     */
+    public boolean deleteIfNotModifiedSince(String fileName, Instant cutoff) {
+        Path file = Paths.get(uploadDir).resolve(fileName);
+        synchronized (lockFor(fileName)) {
+            try {
+                if (!Files.exists(file) || !Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    return false;
+                }
+                Files.delete(file);
+            } catch (IOException e) {
+                log.warn("파일 삭제 실패. file name = {}", fileName, e);
+                return false;
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                deleteQuietly(file.resolveSibling(variant.fileName(fileName)));
+            }
+            contentHashes.asMap().keySet().removeIf(key -> key.startsWith(fileName + ":"));
+        }
+        return true;
+    }
+
+    // 저장 중 실패해 남은 임시 파일과 원본이 삭제된 변환본 정리
+    public int deleteOrphans(Instant cutoff) {
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(uploadDir))) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                boolean orphan = isTemp(fileName) || ImageVariant.originalOf(fileName)
+                        .map(original -> !Files.exists(file.resolveSibling(original)))
+                        .orElse(false);
+                if (orphan && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && deleteQuietly(file)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            throw new FileStorageException("파일 목록을 읽을 수 없습니다: " + uploadDir);
+        }
+        return deleted;
+    }
+
+    private boolean isTemp(String fileName) {
+        return fileName.endsWith(TEMP_SUFFIX);
+    }
+
+    private Object lockFor(String fileName) {
+        return fileLocks[Math.floorMod(fileName.hashCode(), fileLocks.length)];
+    }
+
+    private boolean deleteQuietly(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패. file = {}", file, e);
+            return false;
+        }
+    }
 }
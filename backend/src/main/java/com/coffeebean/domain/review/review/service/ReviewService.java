@@ -3,17 +3,23 @@ package com.coffeebean.domain.review.review.service;
 import com.coffeebean.domain.order.order.DeliveryStatus;
 import com.coffeebean.domain.order.orderItem.entity.OrderItem;
 import com.coffeebean.domain.order.orderItem.repository.OrderItemRepository;
+import com.coffeebean.domain.review.review.ReviewCursor;
 import com.coffeebean.domain.review.review.ReviewRequest;
+import com.coffeebean.domain.review.review.ReviewSort;
 import com.coffeebean.domain.review.review.ReviewableOrderItemDto;
 import com.coffeebean.domain.review.review.entity.Review;
 import com.coffeebean.domain.review.review.entity.ReviewDetailDto;
 import com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto;
+import com.coffeebean.domain.review.review.entity.ReviewPageDto;
 import com.coffeebean.domain.review.review.respository.ReviewRepository;
 import com.coffeebean.domain.user.user.enitity.User;
 import com.coffeebean.domain.user.user.repository.UserRepository;
+import com.coffeebean.global.image.ImageVariant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -36,10 +42,17 @@ public class ReviewService {
     private final OrderItemRepository orderItemRepository;
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
+    private final ReviewSummaryService reviewSummaryService;
 
     @Value("upload/")
     private String uploadDir;
 
+    @Value("${review.list.page-size:10}")
+    private int reviewPageSize;
+
+    @Value("${review.list.max-page-size:50}")
+    private int reviewMaxPageSize;
+
     /**
      * 리뷰 작성 기간 초과 시 작성 불가 (배송 완료 후 7일 이내)
      * 상품 주문을 기준으로 이틀 후면 무조건 도착한다고 가정
@@ -61,6 +74,7 @@ public class ReviewService {
 
             Review review = buildReview(reviewRequest, generatedFileName, orderItem, user);
             reviewRepository.save(review);
+            reviewSummaryService.addRating(orderItem.getItem().getId(), review.getRating());
 
             // 주문 아이템 상태 변경
             orderItem.markAsWritten();
@@ -74,6 +88,8 @@ public class ReviewService {
         String generatedFileName = null;
         if (reviewRequest.getOriginalFileName() != null && !reviewRequest.getOriginalFileName().isEmpty()) {
             generatedFileName = fileStorageService.storeFile(reviewRequest.getOriginalFileName());
+        } else if (reviewRequest.getImageFileName() != null && !reviewRequest.getImageFileName().isBlank()) {
+            generatedFileName = fileStorageService.useStoredFile(reviewRequest.getImageFileName());
         }
         return generatedFileName;
     }
@@ -82,9 +98,11 @@ public class ReviewService {
         return Review.builder()
                 .content(reviewRequest.getContent())
                 .rating(reviewRequest.getRating())
-                .originalFileName(generatedFileName == null ? null : reviewRequest.getOriginalFileName().toString())
+                .originalFileName(generatedFileName == null || reviewRequest.getOriginalFileName() == null
+                        ? null : reviewRequest.getOriginalFileName().getOriginalFilename())
                 .generatedFileName(generatedFileName)
                 .orderItem(orderItem)
+                .item(orderItem.getItem())
                 .user(user)
                 .build();
     }
@@ -125,17 +143,21 @@ public class ReviewService {
         log.info("service.getWrittenReviews={}", reviews);
 
         // Review 엔티티를 ReviewDetailDto로 변환
-        return reviews.stream().map(review -> new ReviewDetailDto(
-                review.getId(),
-                review.getContent(),
-                review.getRating(),
-                review.getCreateDate(),
-                generateImageUrl(review.getGeneratedFileName())
-        )).toList();
+        return reviews.stream().map(review -> {
+            String imageUrl = generateImageUrl(review.getGeneratedFileName());
+            return new ReviewDetailDto(
+                    review.getId(),
+                    review.getContent(),
+                    review.getRating(),
+                    review.getCreateDate(),
+                    imageUrl,
+                    ImageVariant.THUMBNAIL.url(imageUrl)
+            );
+        }).toList();
     }
 
     private String generateImageUrl(String fileName) {
-        return fileName != null ? "http://localhost:8080/files/" + fileName : null; // 클라이언트 접근 URL
+        return fileName != null ? FileStorageService.FILE_URL_PREFIX + fileName : null; // 클라이언트 접근 URL
     }
 
     // 작성 가능한 리뷰만 보여 주는 용도
@@ -164,7 +186,9 @@ public class ReviewService {
         if (!review.getUser().getId().equals(userId)) {
             throw new IllegalStateException("본인의 리뷰만 수정할 수 있습니다.");
         }
+        int oldRating = review.getRating();
         review.update(reviewRequest.getContent(), reviewRequest.getRating(), getGeneratedFileName(reviewRequest));
+        reviewSummaryService.changeRating(review.getOrderItem().getItem().getId(), oldRating, review.getRating());
     }
 
     public void deleteReview(Long reviewId, Long usreId) {
@@ -175,19 +199,58 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        reviewSummaryService.removeRating(review.getOrderItem().getItem().getId(), review.getRating());
     }
 
-    // 아이템 id로 리뷰 조회
+    /**
+     * 상품별 리뷰 목록 (커서 기반)
+     * 커서 이후 size + 1건만 인덱스 순서대로 읽으므로 리뷰 수와 관계없이 페이지 조회 비용이 일정하다.
+     */
     @Transactional(readOnly = true)
-    public List<ReviewDetailNotImageDto> getReviewsByItemId(Long itemId) {
-        return reviewRepository.findByItemId(itemId);
+    public ReviewPageDto getReviewsByItemId(Long itemId, ReviewSort sort, String cursor, Integer size) {
+        ReviewCursor after = ReviewCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, pageSize(size) + 1);
+
+        List<ReviewDetailNotImageDto> reviews = switch (sort) {
+            case NEWEST -> reviewRepository.findByItemIdNewest(itemId, after.createDate(), after.reviewId(), pageable);
+            case RATING -> reviewRepository.findByItemIdRating(itemId, after.rating(), after.createDate(), after.reviewId(), pageable);
+        };
+        return toPage(reviews, pageable.getPageSize() - 1);
     }
 
-    // 리뷰 전체 조회
+    // 리뷰 전체 조회 - 관리자 (커서 기반)
     @Transactional(readOnly = true)
-    public List<ReviewDetailNotImageDto> getAllReviews() {
-        return reviewRepository.findAllByOrderByCreateDateDesc().stream()
-                .map(ReviewDetailNotImageDto::new)
-                .toList();
+    public ReviewPageDto getAllReviews(ReviewSort sort, String cursor, Integer size) {
+        ReviewCursor after = ReviewCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, pageSize(size) + 1);
+
+        List<ReviewDetailNotImageDto> reviews = switch (sort) {
+            case NEWEST -> reviewRepository.findAllNewest(after.createDate(), after.reviewId(), pageable);
+            case RATING -> reviewRepository.findAllRating(after.rating(), after.createDate(), after.reviewId(), pageable);
+        };
+        return toPage(reviews, pageable.getPageSize() - 1);
+    }
+
+    private int pageSize(Integer size) {
+        return size == null ? reviewPageSize : Math.clamp(size, 1, reviewMaxPageSize);
+    }
+
+    // 한 건 더 조회한 결과로 다음 페이지 여부 판단
+    private ReviewPageDto toPage(List<ReviewDetailNotImageDto> reviews, int pageSize) {
+        if (reviews.size() <= pageSize) {
+            return new ReviewPageDto(reviews, null);
+        }
+        List<ReviewDetailNotImageDto> page = reviews.subList(0, pageSize);
+        ReviewDetailNotImageDto last = page.get(pageSize - 1);
+        return new ReviewPageDto(page, new ReviewCursor(last.getRating(), last.getCreateDate(), last.getReviewId()).encode());
+    }
+
+    // 상품 ID 컬럼 추가 전 작성된 리뷰 보정
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingItemIds() {
+        int updated = reviewRepository.fillMissingItemIds();
+        if (updated > 0) {
+            log.info("리뷰 상품 ID 보정 완료. reviews={}", updated);
+        }
     }
 }
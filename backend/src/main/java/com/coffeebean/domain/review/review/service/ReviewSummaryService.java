@@ -0,0 +1,125 @@
+package com.coffeebean.domain.review.review.service;
+
+import com.coffeebean.domain.review.review.entity.ReviewSummary;
+import com.coffeebean.domain.review.review.entity.ReviewSummaryDto;
+import com.coffeebean.domain.review.review.respository.ReviewSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품별 리뷰 집계 관리
+ * 리뷰 변경과 같은 트랜잭션에서 증감만 반영하므로 요약 조회 시 리뷰를 다시 읽지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewSummaryService {
+
+    private final ReviewSummaryRepository reviewSummaryRepository;
+
+    // 리뷰 작성
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addRating(Long itemId, int rating) {
+        reviewSummaryRepository.insertIfAbsent(itemId);
+        applyDelta(itemId, rating, 1);
+    }
+
+    // 리뷰 별점 수정
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void changeRating(Long itemId, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        long[] stars = new long[5];
+        stars[checkRating(oldRating) - 1] = -1;
+        stars[checkRating(newRating) - 1] = 1;
+        reviewSummaryRepository.applyDelta(itemId, 0, newRating - oldRating,
+                stars[0], stars[1], stars[2], stars[3], stars[4]);
+    }
+
+    // 리뷰 삭제
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeRating(Long itemId, int rating) {
+        applyDelta(itemId, rating, -1);
+    }
+
+    // sign: 작성 +1, 삭제 -1
+    private void applyDelta(Long itemId, int rating, int sign) {
+        long[] stars = new long[5];
+        stars[checkRating(rating) - 1] = sign;
+        reviewSummaryRepository.applyDelta(itemId, sign, (long) sign * rating,
+                stars[0], stars[1], stars[2], stars[3], stars[4]);
+    }
+
+    private int checkRating(int rating) {
+        if (rating < 1 || rating > 5) {
+            throw new IllegalArgumentException("별점은 최소 1점, 최대 5점입니다.");
+        }
+        return rating;
+    }
+
+    // 상품 별점 요약 조회 (O(1) - 집계 행 하나)
+    @Transactional(readOnly = true)
+    public ReviewSummaryDto getSummary(Long itemId) {
+        return reviewSummaryRepository.findById(itemId)
+                .map(ReviewSummaryDto::new)
+                .orElseGet(() -> ReviewSummaryDto.empty(itemId));
+    }
+
+    /**
+     * 집계 테이블 도입 전 작성된 리뷰 반영
+     * 집계가 비어 있을 때만 리뷰 테이블을 한 번 GROUP BY 해서 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (reviewSummaryRepository.count() > 0) {
+            return;
+        }
+
+        Map<Long, long[]> histograms = new HashMap<>();
+        for (Object[] row : reviewSummaryRepository.countByItemIdAndRating()) {
+            Long itemId = (Long) row[0];
+            int rating = ((Number) row[1]).intValue();
+            long count = ((Number) row[2]).longValue();
+            histograms.computeIfAbsent(itemId, key -> new long[5])[rating - 1] = count;
+        }
+        if (histograms.isEmpty()) {
+            return;
+        }
+
+        List<ReviewSummary> summaries = histograms.entrySet().stream()
+                .map(entry -> toSummary(entry.getKey(), entry.getValue()))
+                .toList();
+        reviewSummaryRepository.saveAll(summaries);
+        log.info("리뷰 집계 재구성 완료. items={}", summaries.size());
+    }
+
+    private ReviewSummary toSummary(Long itemId, long[] stars) {
+        long count = 0;
+        long sum = 0;
+        for (int i = 0; i < stars.length; i++) {
+            count += stars[i];
+            sum += stars[i] * (i + 1);
+        }
+        return ReviewSummary.builder()
+                .itemId(itemId)
+                .reviewCount(count)
+                .ratingSum(sum)
+                .star1(stars[0])
+                .star2(stars[1])
+                .star3(stars[2])
+                .star4(stars[3])
+                .star5(stars[4])
+                .build();
+    }
+}
@@ -6,7 +6,6 @@ import java.util.Map;
 import java.util.Optional;
 
 import com.coffeebean.domain.user.user.Address;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +17,7 @@ import com.coffeebean.domain.user.user.enitity.User;
 import com.coffeebean.domain.user.user.repository.UserRepository;
 import com.coffeebean.global.exception.DataNotFoundException;
 import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.security.PasswordHasher;
 import com.coffeebean.global.util.JwtUtil;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -36,7 +36,7 @@ public class UserService {
 	private static final String ADMIN_ROLE = "ROLE_ADMIN";
 
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher; // BCrypt는 전용 워커에서 실행 (대기열이 가득 차면 503)
 	private final EmailVerificationService emailVerificationService;
 
 	// 이메일로 유저가 존재하는지 확인
@@ -51,7 +51,7 @@ public class UserService {
 		}
 
 		// 비밀번호 암호화
-		String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+		String encodedPassword = passwordHasher.encode(signupRequest.getPassword());
 
 		// User 엔티티 생성
 		User user = User.builder()
@@ -118,12 +118,12 @@ public class UserService {
 		User user = userRepository.findByEmail(email)
 				.orElseThrow(() -> new ServiceException("404-1", "사용자를 찾을 수 없습니다."));
 
-		if(!passwordEncoder.matches(oldPassword, user.getPassword())) {
+		if(!passwordHasher.matches(oldPassword, user.getPassword())) {
 			throw new ServiceException("400-2", "기존 비밀번호가 일치하지 않습니다.");
 		}
 
 		// 새 비밀번호 암호화 후 저장
-		String encodedPassword = passwordEncoder.encode(newPassword);
+		String encodedPassword = passwordHasher.encode(newPassword);
 		user.setPassword(encodedPassword);
 
 		log.info("변경된 비밀번호: {}", encodedPassword);
@@ -135,7 +135,7 @@ public class UserService {
 		User user = userRepository.findByEmail(email)
 			.orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 이메일입니다."));
 
-		if (!passwordEncoder.matches(password, user.getPassword())) {
+		if (!passwordHasher.matches(password, user.getPassword())) {
 			throw new ServiceException("401-2", "비밀번호가 올바르지 않습니다.");
 		}
 
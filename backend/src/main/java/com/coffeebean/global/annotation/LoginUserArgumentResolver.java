@@ -2,6 +2,9 @@ package com.coffeebean.global.annotation;
 
 import com.coffeebean.global.exception.ServiceException;
 import com.coffeebean.global.util.CustomUserDetails;
+import com.coffeebean.global.util.JwtAuthenticator;
+import com.coffeebean.global.util.JwtPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
@@ -13,10 +16,14 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import java.nio.file.AccessDeniedException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final JwtAuthenticator jwtAuthenticator;
+
     @Override
     // @Login 애노테이션이 달려있는지 확인
     public boolean supportsParameter(MethodParameter parameter) {
@@ -29,6 +36,13 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
                                   ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest,
                                   WebDataBinderFactory binderFactory) throws Exception {
+        // 필터에서 검증한 회원 토큰이 있으면 그대로 사용
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        Optional<JwtPrincipal> jwtPrincipal = request == null ? Optional.empty() : jwtAuthenticator.authenticate(request);
+        if (jwtPrincipal.isPresent() && !jwtPrincipal.get().hasRole()) {
+            return jwtPrincipal.get().toUserDetails();
+        }
+
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null) {
@@ -1,14 +1,13 @@
 package com.coffeebean.global.aspect;
 
-import java.util.Map;
-
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
 import com.coffeebean.global.exception.ServiceException;
-import com.coffeebean.global.util.JwtUtil;
+import com.coffeebean.global.util.JwtAuthenticator;
+import com.coffeebean.global.util.JwtPrincipal;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 public class AdminOnlyAspect {
 
 	private final HttpServletRequest request;
+	private final JwtAuthenticator jwtAuthenticator;
 
 	// AdminOnly 애너테이션이 붙은 메서드를 가로채는 Pointcut
 	@Pointcut("@annotation(com.coffeebean.global.security.annotations.AdminOnly)")
@@ -27,12 +27,11 @@ public class AdminOnlyAspect {
 
 	@Before("checkAdminPointcut()")
 	public void before() {
-		// Admin 쿠키 검증
-		String token = JwtUtil.getJwtFromCookies(request)
+		// Admin 쿠키 검증 (필터에서 검증한 결과 재사용)
+		JwtPrincipal principal = jwtAuthenticator.authenticate(request)
 				.orElseThrow(() -> new ServiceException("401-1", "인증 정보가 없습니다."));
-		Map<String, Object> payload = JwtUtil.getPayload(token);
 
-		if (!payload.containsKey("role") || !payload.get("role").equals("ROLE_ADMIN")) {
+		if (!principal.isAdmin()) {
 			throw new ServiceException("403-1", "관리자 권한이 없습니다.");
 		}
 	}
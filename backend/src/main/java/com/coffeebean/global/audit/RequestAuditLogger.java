@@ -0,0 +1,87 @@
+package com.coffeebean.global.audit;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.coffeebean.global.util.JwtPrincipal;
+import com.coffeebean.global.util.JwtUtil;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 감사 로그 (인증 필터에서 요청마다 호출)
+ * 모든 요청을 남기면 로그 자체가 필터 체인에서 가장 큰 비용이 되므로 일부만 샘플링해서 남긴다.
+ * - 한 줄 key=value 형식 (method, uri, status, user, token, authUs, totalMs)
+ * - 토큰, 쿠키, 쿼리 문자열, 이메일은 남기지 않음 (토큰은 none/valid/invalid 상태만)
+ * - 샘플링되지 않았거나 로그 레벨이 꺼져 있으면 문자열을 만들지 않음
+ * - 인증(토큰 검증)이 느린 요청은 샘플링과 관계없이 WARN으로 남김
+ */
+@Slf4j
+@Component
+public class RequestAuditLogger {
+
+    private final double sampleRate;
+    private final long slowAuthNanos;
+
+    public RequestAuditLogger(@Value("${audit.request.sample-rate:0.01}") double sampleRate,
+                              @Value("${audit.request.slow-auth-ms:50}") long slowAuthMs) {
+        this.sampleRate = sampleRate;
+        this.slowAuthNanos = TimeUnit.MILLISECONDS.toNanos(slowAuthMs);
+    }
+
+    /**
+     * 요청 처리 결과 기록
+     *
+     * @param authNanos  토큰 검증에 걸린 시간
+     * @param totalNanos 필터 이후 요청 처리 전체에 걸린 시간
+     */
+    public void record(HttpServletRequest request, HttpServletResponse response,
+                       Optional<JwtPrincipal> principal, long authNanos, long totalNanos) {
+        if (authNanos >= slowAuthNanos) {
+            if (log.isWarnEnabled()) {
+                log.warn("audit slow-auth method={} uri={} status={} user={} token={} authUs={} totalMs={}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        user(principal), tokenState(request, principal),
+                        TimeUnit.NANOSECONDS.toMicros(authNanos), TimeUnit.NANOSECONDS.toMillis(totalNanos));
+            }
+            return;
+        }
+        if (!isSampled() || !log.isInfoEnabled()) {
+            return;
+        }
+        log.info("audit method={} uri={} status={} user={} token={} authUs={} totalMs={}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(),
+                user(principal), tokenState(request, principal),
+                TimeUnit.NANOSECONDS.toMicros(authNanos), TimeUnit.NANOSECONDS.toMillis(totalNanos));
+    }
+
+    boolean isSampled() {
+        if (sampleRate <= 0) {
+            return false;
+        }
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    // 회원은 ID, 관리자는 권한만 남김 (이메일/아이디 제외)
+    static String user(Optional<JwtPrincipal> principal) {
+        if (principal.isEmpty()) {
+            return "anonymous";
+        }
+        JwtPrincipal value = principal.get();
+        return value.hasRole() ? value.role() : String.valueOf(value.userId());
+    }
+
+    // 토큰 원문 대신 상태만 (none: 쿠키 없음, invalid: 검증 실패)
+    static String tokenState(HttpServletRequest request, Optional<JwtPrincipal> principal) {
+        if (principal.isPresent()) {
+            return "valid";
+        }
+        return JwtUtil.getJwtFromCookies(request).isPresent() ? "invalid" : "none";
+    }
+}
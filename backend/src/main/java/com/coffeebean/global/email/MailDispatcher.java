@@ -0,0 +1,115 @@
+package com.coffeebean.global.email;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.coffeebean.domain.user.user.service.MailService;
+import com.coffeebean.global.exception.ServiceException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 메일 비동기 발송
+ * 요청 스레드는 대기열에 넣고 바로 반환하며, 고정 크기 워커 풀이 SMTP 발송을 처리한다.
+ * 일시적인 실패(5xx)는 지수 백오프로 재시도하고, 주소 오류 같은 영구 실패(4xx)는 재시도하지 않는다.
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private final MailService mailService;
+    private final int queueCapacity;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicInteger queued = new AtomicInteger(); // 발송 대기 + 재시도 대기 중인 메일 수
+
+    public MailDispatcher(MailService mailService,
+                          @Value("${mail.dispatch.threads:2}") int threads,
+                          @Value("${mail.dispatch.queue-capacity:1000}") int queueCapacity,
+                          @Value("${mail.dispatch.max-attempts:3}") int maxAttempts,
+                          @Value("${mail.dispatch.backoff-ms:1000}") long backoffMillis) {
+        this.mailService = mailService;
+        this.queueCapacity = queueCapacity;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.executor = new ScheduledThreadPoolExecutor(threads, new CustomizableThreadFactory("mail-dispatch-"));
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 메일 발송 요청
+     *
+     * @return 발송 완료 시 정상 완료, 재시도까지 모두 실패하거나 대기열이 가득 차면 예외로 완료되는 Future
+     */
+    public CompletableFuture<Void> dispatch(String email, String subject, String content) {
+        return dispatch(email, subject, content, maxAttempts);
+    }
+
+    /**
+     * 최대 시도 횟수를 지정한 메일 발송 요청
+     * 호출하는 쪽에서 재시도를 관리하면(예: 아웃박스) 1을 넘겨 재시도가 겹치지 않게 한다.
+     */
+    public CompletableFuture<Void> dispatch(String email, String subject, String content, int maxAttempts) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            log.warn("메일 발송 대기열이 가득 찼습니다. email={}, subject={}", email, subject);
+            result.completeExceptionally(new RejectedExecutionException("메일 발송 대기열이 가득 찼습니다."));
+            return result;
+        }
+
+        try {
+            executor.execute(() -> send(email, subject, content, 1, maxAttempts, result));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    // 지금 대기열에 더 넣을 수 있는 메일 수 (호출하는 쪽에서 이만큼만 가져와 발송 요청하도록)
+    public int availableCapacity() {
+        return Math.max(0, queueCapacity - queued.get());
+    }
+
+    private void send(String email, String subject, String content, int attempt, int maxAttempts,
+                      CompletableFuture<Void> result) {
+        try {
+            mailService.sendMailToUser(email, subject, content);
+            queued.decrementAndGet();
+            result.complete(null);
+        } catch (ServiceException e) {
+            if (e.getStatusCode() < 500 || attempt >= maxAttempts) {
+                queued.decrementAndGet();
+                log.error("메일 발송 실패 ({}회 시도). email={}, subject={}", attempt, email, subject, e);
+                result.completeExceptionally(e);
+                return;
+            }
+
+            long delay = backoffMillis << (attempt - 1);
+            log.warn("메일 발송 실패, {}ms 후 재시도합니다 ({}/{}). email={}", delay, attempt, maxAttempts, email);
+            executor.schedule(() -> send(email, subject, content, attempt + 1, maxAttempts, result),
+                    delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("발송되지 않은 메일 {}건이 남아 있습니다.", queued.get());
+            executor.shutdownNow();
+        }
+    }
+}
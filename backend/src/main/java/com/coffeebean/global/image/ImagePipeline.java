@@ -0,0 +1,160 @@
+package com.coffeebean.global.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 이미지 변환 (썸네일, 압축본 생성)
+ * 요청 스레드는 원본만 저장하고 변환은 고정 크기 워커 풀에서 처리한다.
+ * 큰 이미지를 동시에 여러 장 디코딩하면 메모리를 많이 쓰므로 워커 수와 대기열 크기를 제한하고,
+ * 대기열이 가득 차면 변환을 건너뛴다 (변환본이 없으면 원본을 대신 제공).
+ */
+@Slf4j
+@Component
+public class ImagePipeline {
+
+    private final float quality;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public ImagePipeline(@Value("${image.pipeline.threads:2}") int threads,
+                         @Value("${image.pipeline.queue-capacity:100}") int queueCapacity,
+                         @Value("${image.pipeline.quality:0.8}") float quality,
+                         @Value("${image.pipeline.max-pixels:50000000}") long maxPixels) {
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("image-pipeline-"));
+        ImageIO.setUseCache(false); // 디코딩 중 임시 파일 대신 메모리 사용
+    }
+
+    /**
+     * 변환 요청
+     *
+     * @return 변환이 끝나면 완료되는 Future (변환할 수 없는 파일이면 변환본 없이 완료)
+     */
+    public CompletableFuture<Void> submit(Path original) {
+        try {
+            return CompletableFuture.runAsync(() -> process(original), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 변환 대기열이 가득 찼습니다. 원본만 제공합니다. file={}", original.getFileName());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    void process(Path original) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                log.info("변환할 수 없는 이미지 형식입니다. file={}", original.getFileName());
+                return;
+            }
+
+            BufferedImage source = read(readers.next(), input);
+            if (source == null) {
+                log.warn("이미지 해상도가 너무 커서 변환하지 않습니다. file={}", original.getFileName());
+                return;
+            }
+            String fileName = original.getFileName().toString();
+            for (ImageVariant variant : ImageVariant.values()) {
+                write(resize(source, variant.getMaxWidth()), original.resolveSibling(variant.fileName(fileName)));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 변환 실패. file={}", original.getFileName(), e);
+        }
+    }
+
+    // 긴 변이 가장 큰 변환본 너비의 2배 정도가 되도록 줄여서 디코딩 (세로로 긴 이미지도 전체 해상도로 메모리에 올리지 않음)
+    // 헤더의 해상도가 한도(maxPixels)를 넘으면 디코딩하지 않고 null (작은 파일로 거대한 해상도를 선언하는 이미지)
+    private BufferedImage read(ImageReader reader, ImageInputStream input) throws IOException {
+        try {
+            reader.setInput(input, true, true);
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if ((long)width * height > maxPixels) {
+                return null;
+            }
+            int subsampling = Math.max(1, Math.max(width, height) / (ImageVariant.largestWidth() * 2));
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    // 너비 기준 축소 (확대하지 않음), 투명 배경은 흰색으로 채움 (JPEG는 알파 채널 없음)
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(source.getWidth(), maxWidth);
+        int height = Math.max(1, (int)Math.round((double)source.getHeight() * width / source.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    // 임시 파일에 쓴 뒤 이동 (쓰는 중인 변환본이 제공되지 않게, 같은 파일을 동시에 변환해도 임시 파일이 겹치지 않게)
+    private void write(BufferedImage image, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("변환되지 않은 이미지 {}건이 남아 있습니다.", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.coffeebean.global.image;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * 업로드를 허용하는 이미지 형식 (파일 앞부분의 시그니처로 판별)
+ * 사용자가 보낸 파일명/Content-Type은 믿지 않고 실제 내용으로 확장자를 정한다.
+ */
+public enum ImageType {
+
+    JPEG("jpg", new int[] {0xFF, 0xD8, 0xFF}),
+    PNG("png", new int[] {0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}),
+    GIF("gif", new int[] {'G', 'I', 'F', '8'}),
+    WEBP("webp", new int[] {'R', 'I', 'F', 'F', -1, -1, -1, -1, 'W', 'E', 'B', 'P'}); // -1: 아무 값 (파일 크기)
+
+    // 판별에 필요한 최대 바이트 수
+    public static final int SIGNATURE_LENGTH = 12;
+
+    private final String extension;
+    private final int[] signature;
+
+    ImageType(String extension, int[] signature) {
+        this.extension = extension;
+        this.signature = signature;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    // buffer 앞부분 length 바이트로 판별 (버퍼의 position/limit은 바꾸지 않음)
+    public static Optional<ImageType> detect(ByteBuffer buffer, int length) {
+        for (ImageType type : values()) {
+            if (type.matches(buffer, length)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean matches(ByteBuffer buffer, int length) {
+        if (length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (signature[i] >= 0 && (buffer.get(i) & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,126 @@
+package com.coffeebean.global.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.coffeebean.global.exception.ServiceException;
+
+/**
+ * 업로드 스트림을 고정 크기 direct 버퍼 하나로 읽어 파일에 바로 쓴다.
+ * 읽는 동안 한 번에 처리한다.
+ * - 첫 조각에서 이미지 시그니처를 확인해 이미지가 아니면 바로 중단
+ * - 누적 크기가 최대 크기를 넘으면 바로 중단 (끝까지 받지 않음)
+ * - SHA-256 계산 (저장 후 다시 읽지 않음)
+ * 요청 본문 전체를 힙이나 임시 파일에 모아 두지 않으므로 동시 업로드 수와 무관하게 업로드당 버퍼 하나만 쓴다.
+ * 버퍼는 풀에서 재사용하고, 풀이 비면 그 요청만 힙 버퍼를 쓴다.
+ */
+@Component
+public class ImageUploadWriter {
+
+    public record Result(String hash, ImageType type, long size) {
+    }
+
+    private final long maxSize;
+    private final int bufferSize;
+    private final BlockingQueue<ByteBuffer> buffers;
+
+    public ImageUploadWriter(@Value("${file.upload.max-size:10MB}") DataSize maxSize,
+                             @Value("${file.upload.buffer-size:64KB}") DataSize bufferSize,
+                             @Value("${file.upload.buffer-count:32}") int bufferCount) {
+        this.maxSize = maxSize.toBytes();
+        this.bufferSize = (int)bufferSize.toBytes();
+        this.buffers = new ArrayBlockingQueue<>(bufferCount);
+        for (int i = 0; i < bufferCount; i++) {
+            buffers.add(ByteBuffer.allocateDirect(this.bufferSize));
+        }
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * input을 target에 저장 (target은 새로 만든다)
+     * 검증에 실패하면 target을 지우고 ServiceException을 던진다.
+     */
+    public Result write(InputStream input, Path target) throws IOException {
+        ByteBuffer buffer = acquire();
+        try (ReadableByteChannel in = Channels.newChannel(input);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            MessageDigest digest = sha256();
+            ImageType type = null;
+            long size = 0;
+
+            while (true) {
+                int read = in.read(buffer);
+                boolean end = read < 0;
+                if (read > 0) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw new ServiceException("413-1",
+                                "파일 크기는 %dMB 이하여야 합니다.".formatted(maxSize / (1024 * 1024)));
+                    }
+                }
+                // 시그니처를 판별할 만큼 모이면 (또는 끝까지 읽으면) 형식 확인
+                if (type == null && (end || buffer.position() >= ImageType.SIGNATURE_LENGTH)) {
+                    type = ImageType.detect(buffer, buffer.position())
+                            .orElseThrow(() -> new ServiceException("400-5", "jpg, png, gif, webp 이미지만 업로드할 수 있습니다."));
+                }
+                // 버퍼가 가득 찼을 때만 해시 계산 + 파일 쓰기 (쓰기 호출 수 최소화)
+                if (type != null && buffer.position() > 0 && (end || !buffer.hasRemaining())) {
+                    buffer.flip();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                if (end) {
+                    break;
+                }
+            }
+            return new Result(HexFormat.of().formatHex(digest.digest()), type, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        } finally {
+            release(buffer);
+        }
+    }
+
+    private ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocate(bufferSize);
+    }
+
+    private void release(ByteBuffer buffer) {
+        if (buffer.isDirect()) {
+            buffer.clear();
+            buffers.offer(buffer);
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.coffeebean.global.image;
+
+import java.util.Optional;
+
+/**
+ * 업로드 이미지 변환본 종류
+ * 변환본 파일명은 원본 파일명 뒤에 접미사를 붙여 만든다 (예: abc.png -> abc.png.thumb.jpg).
+ * 원본 파일명을 그대로 포함하므로 변환본이 아직 만들어지지 않았을 때 원본으로 대체할 수 있다.
+ */
+public enum ImageVariant {
+
+    THUMBNAIL("thumb", 320),  // 상품 목록, 리뷰 목록
+    MEDIUM("medium", 960);    // 상품 상세
+
+    private static final String FILES_PATH = "/files/";
+
+    private final String suffix;
+    private final int maxWidth;
+
+    ImageVariant(String name, int maxWidth) {
+        this.suffix = "." + name + ".jpg";
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public String fileName(String originalFileName) {
+        return originalFileName + suffix;
+    }
+
+    // 원본 URL -> 변환본 URL (업로드 파일이 아니면 원본 URL 그대로)
+    public String url(String originalUrl) {
+        if (originalUrl == null || !originalUrl.contains(FILES_PATH)) {
+            return originalUrl;
+        }
+        return originalUrl + suffix;
+    }
+
+    // 변환본 파일명 -> 원본 파일명
+    public static Optional<String> originalOf(String fileName) {
+        for (ImageVariant variant : values()) {
+            if (fileName.endsWith(variant.suffix)) {
+                return Optional.of(fileName.substring(0, fileName.length() - variant.suffix.length()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static int largestWidth() {
+        int width = 0;
+        for (ImageVariant variant : values()) {
+            width = Math.max(width, variant.maxWidth);
+        }
+        return width;
+    }
+}
@@ -0,0 +1,35 @@
+package com.coffeebean.global.lock;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄러 작업 잠금 (작업 이름당 한 행)
+ * lockedUntil까지 owner 노드만 작업을 실행할 수 있으며, 만료된 잠금은 다른 노드가 가져갈 수 있다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "scheduler_lock")
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", length = 64)
+    private String name; // 작업 이름
+
+    @Column(nullable = false)
+    private String owner; // 잠금을 가진 노드
+
+    @Column(nullable = false)
+    private LocalDateTime lockedAt; // 잠금 획득 시각
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil; // 잠금 만료 시각
+}
@@ -0,0 +1,36 @@
+package com.coffeebean.global.lock;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 만료된 잠금 또는 내가 가진 잠금 획득
+    @Transactional
+    @Modifying
+    @Query("update SchedulerLock l set l.owner = :owner, l.lockedAt = :now, l.lockedUntil = :until " +
+            "where l.name = :name and (l.lockedUntil <= :now or l.owner = :owner)")
+    int takeOver(@Param("name") String name, @Param("owner") String owner,
+                 @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // 처음 실행되는 작업의 잠금 생성 (동시에 생성하면 한 노드만 성공하고 나머지는 키 중복 예외)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into scheduler_lock (lock_name, owner, locked_at, locked_until) " +
+            "values (:name, :owner, :now, :until)", nativeQuery = true)
+    int insert(@Param("name") String name, @Param("owner") String owner,
+               @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    // 잠금 연장 (내가 가진 잠금만)
+    @Transactional
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :until where l.name = :name and l.owner = :owner")
+    int extend(@Param("name") String name, @Param("owner") String owner, @Param("until") LocalDateTime until);
+}
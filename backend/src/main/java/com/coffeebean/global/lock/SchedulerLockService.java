@@ -0,0 +1,204 @@
+package com.coffeebean.global.lock;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 잠금 테이블을 이용한 스케줄러 작업 리더 선출
+ * 여러 노드에서 같은 @Scheduled 작업이 실행되어도 잠금을 얻은 한 노드만 작업을 수행한다.
+ * 작업 중에는 lease 시간의 1/3마다 잠금을 연장하고, 노드가 죽어 연장이 멈추면 lease 만료 후 다른 노드가 잠금을 가져간다.
+ * 잠금을 잃으면(다른 노드가 가져갔거나 lease가 끝날 때까지 연장하지 못함) 작업 스레드를 인터럽트해 중단시킨다.
+ * 하루 한 번 실행하는 작업은 lockAtLeastFor만큼 잠금을 유지해, 시계나 크론 실행 시각이 조금 늦은 노드가
+ * 작업이 끝난 직후 잠금을 얻어 같은 작업을 다시 실행하지 않게 한다.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final Duration lease;
+
+    @Getter
+    private final String owner; // 이 노드의 식별자 (애플리케이션 인스턴스마다 다름)
+
+    private final ScheduledThreadPoolExecutor renewer;
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository,
+                                @Value("${scheduler.lock.lease-ms:60000}") long leaseMillis) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+        this.renewer = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("scheduler-lock-"));
+        this.renewer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 작업 실행 (작업이 끝나면 바로 잠금 해제)
+     *
+     * @return 작업을 실행했으면 true, 다른 노드가 잠금을 가지고 있으면 false
+     */
+    public boolean runWithLock(String name, Runnable task) {
+        return runWithLock(name, Duration.ZERO, task);
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 작업 실행
+     *
+     * @param lockAtLeastFor 작업이 일찍 끝나도 획득 시각부터 이 시간까지는 잠금 유지 (노드 간 시계/크론 오차보다 길게)
+     * @return 작업을 실행했으면 true, 다른 노드가 잠금을 가지고 있으면 false
+     */
+    public boolean runWithLock(String name, Duration lockAtLeastFor, Runnable task) {
+        LocalDateTime lockedAt = LocalDateTime.now();
+        if (!tryAcquire(name, lockedAt)) {
+            log.debug("다른 노드가 작업 중이므로 건너뜁니다. name={}", name);
+            return false;
+        }
+
+        RunningTask running = new RunningTask(lockedAt.plus(lease));
+        long renewMillis = Math.max(1, lease.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renewWhileRunning(name, running),
+                renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        try {
+            task.run();
+            return true;
+        } finally {
+            renewal.cancel(false);
+            if (!running.finish()) {
+                release(name, lockedAt.plus(lockAtLeastFor));
+            }
+        }
+    }
+
+    // 잠금 획득 - 만료된 잠금이면 이전 노드에게서 가져옴
+    public boolean tryAcquire(String name) {
+        return tryAcquire(name, LocalDateTime.now());
+    }
+
+    private boolean tryAcquire(String name, LocalDateTime now) {
+        LocalDateTime until = now.plus(lease);
+
+        if (schedulerLockRepository.takeOver(name, owner, now, until) == 1) {
+            return true;
+        }
+        if (schedulerLockRepository.existsById(name)) {
+            return false;
+        }
+
+        try {
+            return schedulerLockRepository.insert(name, owner, now, until) == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false; // 다른 노드가 먼저 생성
+        }
+    }
+
+    // 잠금 연장 - 실패하면 lease가 만료되어 다른 노드가 가져간 것
+    public boolean renew(String name) {
+        return renew(name, LocalDateTime.now().plus(lease)) == RenewResult.RENEWED;
+    }
+
+    private RenewResult renew(String name, LocalDateTime until) {
+        try {
+            if (schedulerLockRepository.extend(name, owner, until) == 1) {
+                return RenewResult.RENEWED;
+            }
+            log.warn("작업 잠금을 잃었습니다. name={}, owner={}", name, owner);
+            return RenewResult.LOST;
+        } catch (RuntimeException e) {
+            log.warn("작업 잠금 연장에 실패했습니다. name={}", name, e);
+            return RenewResult.FAILED;
+        }
+    }
+
+    // 연장 중 잠금을 잃으면 작업 중단 (DB 오류로 연장하지 못한 경우는 기존 lease가 끝날 때까지 재시도)
+    private void renewWhileRunning(String name, RunningTask running) {
+        LocalDateTime until = LocalDateTime.now().plus(lease);
+        RenewResult result = renew(name, until);
+        if (result == RenewResult.RENEWED) {
+            running.renewed(until);
+        } else if (result == RenewResult.LOST || running.isExpired(LocalDateTime.now())) {
+            log.error("작업 잠금을 잃어 작업을 중단합니다. name={}, owner={}", name, owner);
+            running.lose();
+        }
+    }
+
+    // 잠금 해제 - 바로 만료시켜 다음 실행 때 어느 노드든 획득 가능
+    public void release(String name) {
+        release(name, LocalDateTime.now());
+    }
+
+    // 잠금 해제 - notBefore 이전이면 그때까지 유지
+    private void release(String name, LocalDateTime notBefore) {
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLockRepository.extend(name, owner, notBefore.isAfter(now) ? notBefore : now);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private enum RenewResult {
+        RENEWED, LOST, FAILED
+    }
+
+    // 잠금을 잡고 실행 중인 작업 - 잠금을 잃으면 작업 스레드를 인터럽트 (작업이 끝난 뒤에는 인터럽트하지 않음)
+    private static final class RunningTask {
+
+        private final Thread worker = Thread.currentThread();
+        private LocalDateTime leaseUntil;
+        private boolean lost;
+        private boolean finished;
+
+        private RunningTask(LocalDateTime leaseUntil) {
+            this.leaseUntil = leaseUntil;
+        }
+
+        synchronized void renewed(LocalDateTime until) {
+            leaseUntil = until;
+        }
+
+        synchronized boolean isExpired(LocalDateTime now) {
+            return !now.isBefore(leaseUntil);
+        }
+
+        synchronized void lose() {
+            if (finished || lost) {
+                return;
+            }
+            lost = true;
+            worker.interrupt();
+        }
+
+        // 작업 종료 - 잠금을 잃었으면 true (스케줄러 스레드를 재사용하므로 남은 인터럽트 상태는 지움)
+        synchronized boolean finish() {
+            finished = true;
+            if (lost) {
+                Thread.interrupted();
+            }
+            return lost;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
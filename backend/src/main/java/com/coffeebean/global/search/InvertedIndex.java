@@ -0,0 +1,444 @@
+package com.coffeebean.global.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * n-gram 역색인 (조각 사전과 문서 목록을 모두 기본형 배열로 보관해 객체 수를 줄임)
+ * - 조각(최대 3글자)은 long 하나로 인코딩해 long -> int 해시 사전의 키로 쓴다.
+ * - 조각별 문서 목록은 [내부 문서 번호, 가중 빈도]를 번갈아 담은 int 배열 하나다.
+ *   문서는 추가 순서대로 내부 번호를 받으므로 목록은 항상 오름차순이다.
+ * - 수정/삭제된 문서는 비트셋으로 표시만 해 두고, 일정 비율 이상 쌓이면 배열을 다시 만든다.
+ */
+public class InvertedIndex {
+
+	private static final double DEFAULT_MIN_SHOULD_MATCH = 0.5; // 검색어 조각 묶음 중 일치해야 하는 최소 비율
+	private static final double COMPACT_RATIO = 0.25;            // 삭제 표시 문서가 이 비율을 넘으면 압축
+	private static final int COMPACT_MIN_DELETED = 1024;
+	private static final double SATURATION = 1.2;                // 가중 빈도 포화 (BM25 k1)
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final LongIntMap terms = new LongIntMap();  // 조각 -> 문서 목록 번호
+	private int[][] postings = new int[1024][];        // 문서 목록 번호 -> [문서, 가중치, 문서, 가중치, ...]
+	private int[] postingSizes = new int[1024];         // 문서 목록별 문서 수
+	private int termCount;
+
+	private final Map<Long, Integer> docIds = new HashMap<>(); // 외부 ID -> 내부 문서 번호
+	private long[] externalIds = new long[1024];               // 내부 문서 번호 -> 외부 ID
+	private final BitSet deleted = new BitSet();
+	private int maxDoc;
+	private int deletedCount;
+
+	// 검색용 점수 누적 배열 재사용 (동시 검색 수만큼만 생성됨)
+	private final Queue<Accumulator> accumulators = new ConcurrentLinkedQueue<>();
+
+	private final double minShouldMatch;
+
+	public InvertedIndex() {
+		this(DEFAULT_MIN_SHOULD_MATCH);
+	}
+
+	public InvertedIndex(double minShouldMatch) {
+		this.minShouldMatch = minShouldMatch;
+	}
+
+	// 색인할 텍스트와 가중치 (예: 상품명 3, 설명 1)
+	public record Field(String text, int weight) {
+	}
+
+	// 문서 추가 (같은 ID가 있으면 교체)
+	public void put(long id, List<Field> fields) {
+		LongIntMap weights = new LongIntMap();
+		for (Field field : fields) {
+			for (String gram : NGramAnalyzer.grams(field.text())) {
+				long key = key(gram);
+				weights.put(key, Math.max(weights.get(key), 0) + field.weight());
+			}
+		}
+
+		lock.writeLock().lock();
+		try {
+			markDeleted(id);
+			int doc = maxDoc++;
+			if (doc == externalIds.length) {
+				externalIds = Arrays.copyOf(externalIds, doc * 2);
+			}
+			externalIds[doc] = id;
+			docIds.put(id, doc);
+			weights.forEach((key, weight) -> append(termOrdinal(key), doc, weight));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(long id) {
+		lock.writeLock().lock();
+		try {
+			markDeleted(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			terms.clear();
+			postings = new int[1024][];
+			postingSizes = new int[1024];
+			termCount = 0;
+			docIds.clear();
+			deleted.clear();
+			externalIds = new long[1024];
+			maxDoc = 0;
+			deletedCount = 0;
+			accumulators.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return docIds.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 사전에 등록된 조각 수
+	public int termCount() {
+		lock.readLock().lock();
+		try {
+			return termCount;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 관련도 순 외부 ID 목록 (동점이면 ID 오름차순)
+	 * 점수 = 일치한 묶음마다 (IDF x 가중치 포화값) 중 최댓값의 합, 묶음의 minShouldMatch 비율 이상 일치한 문서만 반환
+	 */
+	public List<Long> search(String query, int limit) {
+		List<Set<String>> groups = NGramAnalyzer.queryGrams(query);
+		if (groups.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		int required = Math.max(1, (int)Math.ceil(groups.size() * minShouldMatch));
+
+		lock.readLock().lock();
+		Accumulator accumulator = borrowAccumulator();
+		try {
+			accumulator.begin();
+			int matchedGroups = 0;
+			for (Set<String> group : groups) {
+				if (accumulate(group, accumulator)) {
+					matchedGroups++;
+				}
+			}
+			if (matchedGroups < required) {
+				return List.of();
+			}
+			return accumulator.top(required, limit);
+		} finally {
+			accumulators.offer(accumulator);
+			lock.readLock().unlock();
+		}
+	}
+
+	// 묶음 하나의 문서 목록을 모두 읽어 점수 누적 (묶음 안에서는 문서별 최고 점수만 반영)
+	private boolean accumulate(Set<String> group, Accumulator accumulator) {
+		accumulator.nextGroup();
+		boolean found = false;
+		double documents = Math.max(docIds.size(), 1);
+		for (String gram : group) {
+			int ordinal = terms.get(key(gram));
+			if (ordinal < 0 || postingSizes[ordinal] == 0) {
+				continue;
+			}
+			found = true;
+			int[] list = postings[ordinal];
+			int size = postingSizes[ordinal];
+			double idf = Math.log(1 + documents / size);
+			for (int i = 0; i < size * 2; i += 2) {
+				int weight = list[i + 1];
+				accumulator.add(list[i], (float)(idf * weight / (weight + SATURATION)));
+			}
+		}
+		return found;
+	}
+
+	private Accumulator borrowAccumulator() {
+		Accumulator accumulator = accumulators.poll();
+		if (accumulator == null || accumulator.capacity() < maxDoc) {
+			accumulator = new Accumulator(maxDoc);
+		}
+		return accumulator;
+	}
+
+	private int termOrdinal(long key) {
+		int ordinal = terms.get(key);
+		if (ordinal >= 0) {
+			return ordinal;
+		}
+		ordinal = termCount++;
+		if (ordinal == postings.length) {
+			postings = Arrays.copyOf(postings, ordinal * 2);
+			postingSizes = Arrays.copyOf(postingSizes, ordinal * 2);
+		}
+		postings[ordinal] = new int[2];
+		terms.put(key, ordinal);
+		return ordinal;
+	}
+
+	private void append(int ordinal, int doc, int weight) {
+		int[] list = postings[ordinal];
+		int offset = postingSizes[ordinal] * 2;
+		if (offset == list.length) {
+			list = Arrays.copyOf(list, list.length + Math.max(2, (list.length >> 2) * 2));
+			postings[ordinal] = list;
+		}
+		list[offset] = doc;
+		list[offset + 1] = weight;
+		postingSizes[ordinal]++;
+	}
+
+	private void markDeleted(long id) {
+		Integer previous = docIds.remove(id);
+		if (previous == null) {
+			return;
+		}
+		deleted.set(previous);
+		deletedCount++;
+		if (deletedCount >= COMPACT_MIN_DELETED && deletedCount > maxDoc * COMPACT_RATIO) {
+			compact();
+		}
+	}
+
+	// 삭제 표시 문서를 빼고 내부 번호를 앞으로 당겨 다시 만든다 (순서가 유지되므로 정렬 불필요)
+	private void compact() {
+		int[] remap = new int[maxDoc];
+		int next = 0;
+		for (int doc = 0; doc < maxDoc; doc++) {
+			if (deleted.get(doc)) {
+				remap[doc] = -1;
+			} else {
+				remap[doc] = next;
+				externalIds[next] = externalIds[doc];
+				docIds.put(externalIds[next], next);
+				next++;
+			}
+		}
+
+		for (int ordinal = 0; ordinal < termCount; ordinal++) {
+			int[] list = postings[ordinal];
+			int size = 0;
+			for (int i = 0; i < postingSizes[ordinal] * 2; i += 2) {
+				int doc = remap[list[i]];
+				if (doc >= 0) {
+					list[size * 2] = doc;
+					list[size * 2 + 1] = list[i + 1];
+					size++;
+				}
+			}
+			postingSizes[ordinal] = size;
+			postings[ordinal] = Arrays.copyOf(list, Math.max(size, 1) * 2);
+		}
+
+		maxDoc = next;
+		deleted.clear();
+		deletedCount = 0;
+		accumulators.clear();
+	}
+
+	// 최대 3글자(UTF-16) 조각을 [길이 | 글자1 | 글자2 | 글자3] 16비트씩 담은 long으로 인코딩 (0이 될 수 없음)
+	static long key(String gram) {
+		long key = gram.length();
+		for (int i = 0; i < 3; i++) {
+			key = (key << 16) | (i < gram.length() ? gram.charAt(i) : 0);
+		}
+		return key;
+	}
+
+	/**
+	 * 검색 한 번의 점수 누적 배열 (문서 번호로 직접 접근)
+	 * 매 검색/묶음마다 배열을 비우지 않도록, 문서가 마지막으로 갱신된 묶음 번호(mark)로 유효 여부를 판단한다.
+	 */
+	private final class Accumulator {
+
+		private final float[] scores;
+		private final float[] groupBest;
+		private final int[] matched;
+		private final int[] marks;
+		private final int[] touched;
+		private int touchedCount;
+		private int mark;
+		private int queryStart;
+
+		private Accumulator(int capacity) {
+			this.scores = new float[capacity];
+			this.groupBest = new float[capacity];
+			this.matched = new int[capacity];
+			this.marks = new int[capacity];
+			this.touched = new int[capacity];
+		}
+
+		private int capacity() {
+			return scores.length;
+		}
+
+		private void begin() {
+			if (mark > Integer.MAX_VALUE - 1_000_000) {
+				Arrays.fill(marks, 0);
+				mark = 0;
+			}
+			touchedCount = 0;
+			queryStart = mark + 1;
+		}
+
+		private void nextGroup() {
+			mark++;
+		}
+
+		private void add(int doc, float score) {
+			if (marks[doc] < queryStart) {
+				// 이번 검색에서 처음 나온 문서
+				touched[touchedCount++] = doc;
+				scores[doc] = score;
+				groupBest[doc] = score;
+				matched[doc] = 1;
+			} else if (marks[doc] != mark) {
+				// 이번 묶음에서 처음 나온 문서
+				scores[doc] += score;
+				groupBest[doc] = score;
+				matched[doc]++;
+			} else if (score > groupBest[doc]) {
+				// 같은 묶음의 다른 조각이 더 높은 점수
+				scores[doc] += score - groupBest[doc];
+				groupBest[doc] = score;
+			}
+			marks[doc] = mark;
+		}
+
+		// 점수 상위 limit개 (점수 오름차순 힙으로 가장 낮은 점수를 먼저 버림)
+		private List<Long> top(int required, int limit) {
+			PriorityQueue<ScoredDoc> top = new PriorityQueue<>();
+			for (int i = 0; i < touchedCount; i++) {
+				int doc = touched[i];
+				if (matched[doc] < required || deleted.get(doc)) {
+					continue;
+				}
+				ScoredDoc candidate = new ScoredDoc(externalIds[doc], scores[doc]);
+				if (top.size() < limit) {
+					top.offer(candidate);
+				} else if (candidate.compareTo(top.peek()) > 0) {
+					top.poll();
+					top.offer(candidate);
+				}
+			}
+
+			List<Long> result = new ArrayList<>(top.size());
+			while (!top.isEmpty()) {
+				result.add(top.poll().id());
+			}
+			return result.reversed();
+		}
+	}
+
+	private record ScoredDoc(long id, float score) implements Comparable<ScoredDoc> {
+
+		@Override
+		public int compareTo(ScoredDoc other) {
+			int byScore = Float.compare(score, other.score);
+			// 동점이면 ID가 큰 문서가 먼저 버려지도록
+			return byScore != 0 ? byScore : Long.compare(other.id, id);
+		}
+	}
+
+	// long -> int 오픈 어드레싱 해시 (키 0은 빈 칸, 없는 키는 -1)
+	private static final class LongIntMap {
+
+		private static final double LOAD_FACTOR = 0.6;
+
+		private long[] keys = new long[16];
+		private int[] values = new int[16];
+		private int size;
+
+		private int get(long key) {
+			int mask = keys.length - 1;
+			for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+				if (keys[slot] == key) {
+					return values[slot];
+				}
+				if (keys[slot] == 0) {
+					return -1;
+				}
+			}
+		}
+
+		private void put(long key, int value) {
+			if (size + 1 > keys.length * LOAD_FACTOR) {
+				resize();
+			}
+			int mask = keys.length - 1;
+			int slot = slot(key, mask);
+			while (keys[slot] != 0 && keys[slot] != key) {
+				slot = (slot + 1) & mask;
+			}
+			if (keys[slot] == 0) {
+				keys[slot] = key;
+				size++;
+			}
+			values[slot] = value;
+		}
+
+		private void forEach(LongIntConsumer consumer) {
+			for (int slot = 0; slot < keys.length; slot++) {
+				if (keys[slot] != 0) {
+					consumer.accept(keys[slot], values[slot]);
+				}
+			}
+		}
+
+		private void clear() {
+			keys = new long[16];
+			values = new int[16];
+			size = 0;
+		}
+
+		private void resize() {
+			long[] oldKeys = keys;
+			int[] oldValues = values;
+			keys = new long[oldKeys.length * 2];
+			values = new int[oldKeys.length * 2];
+			size = 0;
+			for (int slot = 0; slot < oldKeys.length; slot++) {
+				if (oldKeys[slot] != 0) {
+					put(oldKeys[slot], oldValues[slot]);
+				}
+			}
+		}
+
+		private static int slot(long key, int mask) {
+			return (int)((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+		}
+	}
+
+	@FunctionalInterface
+	private interface LongIntConsumer {
+		void accept(long key, int value);
+	}
+}
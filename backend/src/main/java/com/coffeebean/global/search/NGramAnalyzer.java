@@ -0,0 +1,209 @@
+package com.coffeebean.global.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 한국어 검색용 글자 n-gram 분석기 (상품 검색, 질문 검색 공용)
+ * 띄어쓰기와 무관하게 찾을 수 있도록 단어마다 첫 글자(접두어 검색용) + 2글자 + 3글자 조각을 색인한다.
+ * 검색어는 자모 단위로 보정한다.
+ * - "ㅇㅝㄴㄷㅜ" 처럼 자모로 입력된 글자는 음절("원두")로 합친다.
+ * - 마지막 글자가 초성만 있으면("콜롬ㅂ") 그 초성으로 시작하는 모든 음절로 확장한다.
+ * - 마지막 음절의 받침은 다음 글자의 초성일 수 있으므로("수프림" -> "수프리모") 두 경우를 모두 찾는다.
+ */
+public final class NGramAnalyzer {
+
+	private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+	private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private static final int MAX_GRAM = 3;
+
+	// 한글 음절 = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성
+	private static final char SYLLABLE_BASE = 0xAC00;
+	private static final char SYLLABLE_LAST = 0xD7A3;
+	private static final char CHOSEONG_BASE = 0x1100;
+	private static final char CHOSEONG_LAST = 0x1112;
+	private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+	private static final int JONGSEONG_COUNT = 28;
+
+	// 종성 -> (남는 종성, 다음 음절 초성) - 겹받침은 뒤 자음만 넘어간다 (예: ㄺ -> ㄹ + ㄱ)
+	private static final int[] REMAINING_JONGSEONG = {
+		0, 0, 0, 1, 0, 4, 4, 0, 0, 8, 8, 8, 8, 8, 8, 8, 0, 0, 17, 0, 0, 0, 0, 0, 0, 0, 0, 0
+	};
+	private static final int[] MOVED_CHOSEONG = {
+		-1, 0, 1, 9, 2, 12, 18, 3, 5, 0, 6, 7, 9, 16, 17, 18, 6, 7, 9, 9, 10, 11, 12, 14, 15, 16, 17, 18
+	};
+	// 초성 -> 같은 자음의 종성 (ㄸ, ㅃ, ㅉ은 받침으로 쓸 수 없음)
+	private static final int[] CHOSEONG_TO_JONGSEONG = {
+		1, 2, 4, 7, 0, 8, 16, 17, 0, 19, 20, 21, 22, 0, 23, 24, 25, 26, 27
+	};
+
+	private NGramAnalyzer() {
+	}
+
+	// 소문자 + NFKC 정규화 (HTML 태그 제거, 전각 문자/호환 자모 정리)
+	public static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		String normalized = Normalizer.normalize(HTML_TAG.matcher(text).replaceAll(" "), Normalizer.Form.NFKC)
+			.toLowerCase(Locale.ROOT);
+		return composeJongseong(normalized);
+	}
+
+	/**
+	 * NFKC는 호환 자모 자음을 모두 초성으로 바꾸므로 "워" + "ㄴ"은 합쳐지지 않는다.
+	 * 받침 없는 음절 뒤에 온 초성을 받침으로 붙인다 (모음이 뒤따르는 자음은 NFKC에서 이미 다음 음절이 됨).
+	 */
+	private static String composeJongseong(String text) {
+		StringBuilder composed = null;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (isChoseong(c) && i > 0) {
+				int last = composed == null ? i - 1 : composed.length() - 1;
+				char previous = composed == null ? text.charAt(last) : composed.charAt(last);
+				int jongseong = CHOSEONG_TO_JONGSEONG[c - CHOSEONG_BASE];
+				if (jongseong > 0 && isSyllable(previous) && (previous - SYLLABLE_BASE) % JONGSEONG_COUNT == 0) {
+					if (composed == null) {
+						composed = new StringBuilder(text.length()).append(text, 0, i);
+					}
+					composed.setCharAt(last, (char)(previous + jongseong));
+					continue;
+				}
+			}
+			if (composed != null) {
+				composed.append(c);
+			}
+		}
+		return composed == null ? text : composed.toString();
+	}
+
+	public static List<String> words(String text) {
+		String normalized = normalize(text);
+		if (normalized.isBlank()) {
+			return List.of();
+		}
+		return SEPARATOR.splitAsStream(normalized)
+			.filter(word -> !word.isEmpty())
+			.toList();
+	}
+
+	// 색인할 조각 (중복 포함 - 빈도 계산용)
+	public static List<String> grams(String text) {
+		List<String> grams = new ArrayList<>();
+		for (String word : words(text)) {
+			addGrams(word, grams);
+		}
+		return grams;
+	}
+
+	/**
+	 * 검색어 조각 묶음 - 묶음 하나는 "이 중 하나라도 일치"를 뜻한다.
+	 * 자모 보정이 없는 조각은 후보가 하나뿐인 묶음이 된다.
+	 */
+	public static List<Set<String>> queryGrams(String query) {
+		List<Set<String>> groups = new ArrayList<>();
+		Set<String> seen = new LinkedHashSet<>();
+		for (String word : words(query)) {
+			char last = word.charAt(word.length() - 1);
+			if (isChoseong(last)) {
+				addIncompleteSyllable(word.substring(0, word.length() - 1), last - CHOSEONG_BASE, groups, seen);
+			} else if (hasMovableJongseong(last)) {
+				addWithJongseongAlternative(word, groups, seen);
+			} else {
+				List<String> grams = new ArrayList<>();
+				addGrams(word, grams);
+				grams.forEach(gram -> addGroup(Set.of(gram), groups, seen));
+			}
+		}
+		return groups;
+	}
+
+	// 첫 글자 + 2글자 + 3글자 조각
+	private static void addGrams(String word, List<String> grams) {
+		grams.add(word.substring(0, 1));
+		for (int size = 2; size <= MAX_GRAM; size++) {
+			for (int i = 0; i + size <= word.length(); i++) {
+				grams.add(word.substring(i, i + size));
+			}
+		}
+	}
+
+	// "콜롬ㅂ" -> "콜롬" 조각 + ("롬바" | "롬박" | ... | "롬빟")
+	private static void addIncompleteSyllable(String base, int choseong, List<Set<String>> groups, Set<String> seen) {
+		if (!base.isEmpty()) {
+			List<String> grams = new ArrayList<>();
+			addGrams(base, grams);
+			grams.forEach(gram -> addGroup(Set.of(gram), groups, seen));
+		}
+		String prefix = base.isEmpty() ? "" : base.substring(base.length() - 1);
+		Set<String> expanded = new LinkedHashSet<>();
+		for (char syllable : syllablesStartingWith(choseong)) {
+			expanded.add(prefix + syllable);
+		}
+		addGroup(expanded, groups, seen);
+	}
+
+	// "수프림" -> "수프" 조각 + ("프림" | "수프림" | "프리" | "수프리" | "리마" | ... ) - 마지막 글자가 포함된 조각만 묶는다
+	private static void addWithJongseongAlternative(String word, List<Set<String>> groups, Set<String> seen) {
+		String head = word.substring(0, word.length() - 1);
+		char last = word.charAt(word.length() - 1);
+		int index = last - SYLLABLE_BASE;
+		int jongseong = index % JONGSEONG_COUNT;
+		char withoutJongseong = (char)(last - jongseong + REMAINING_JONGSEONG[jongseong]);
+
+		if (!head.isEmpty()) {
+			List<String> grams = new ArrayList<>();
+			addGrams(head, grams);
+			grams.forEach(gram -> addGroup(Set.of(gram), groups, seen));
+		}
+
+		Set<String> alternatives = new LinkedHashSet<>();
+		for (char candidate : new char[] {last, withoutJongseong}) {
+			for (int size = 1; size <= MAX_GRAM && size <= word.length(); size++) {
+				if (size == 1 && !head.isEmpty()) {
+					continue; // 첫 글자 조각은 단어 맨 앞에서만 만든다
+				}
+				alternatives.add(word.substring(word.length() - size, word.length() - 1) + candidate);
+			}
+		}
+		for (char syllable : syllablesStartingWith(MOVED_CHOSEONG[jongseong])) {
+			alternatives.add(String.valueOf(withoutJongseong) + syllable);
+		}
+		addGroup(alternatives, groups, seen);
+	}
+
+	private static void addGroup(Set<String> group, List<Set<String>> groups, Set<String> seen) {
+		// 같은 조각이 검색어에 여러 번 나와도 한 번만 점수에 반영
+		if (group.size() == 1 && !seen.add(group.iterator().next())) {
+			return;
+		}
+		groups.add(group);
+	}
+
+	private static char[] syllablesStartingWith(int choseong) {
+		char[] syllables = new char[SYLLABLES_PER_CHOSEONG];
+		char first = (char)(SYLLABLE_BASE + choseong * SYLLABLES_PER_CHOSEONG);
+		for (int i = 0; i < syllables.length; i++) {
+			syllables[i] = (char)(first + i);
+		}
+		return syllables;
+	}
+
+	private static boolean isChoseong(char c) {
+		return c >= CHOSEONG_BASE && c <= CHOSEONG_LAST;
+	}
+
+	private static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+	}
+
+	private static boolean hasMovableJongseong(char c) {
+		return isSyllable(c) && (c - SYLLABLE_BASE) % JONGSEONG_COUNT != 0;
+	}
+}
@@ -0,0 +1,24 @@
+package com.coffeebean.global.search;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 검색 색인 변경은 커밋된 데이터만 반영 (롤백된 변경이 검색되지 않도록)
+public final class SearchIndexTransactions {
+
+	private SearchIndexTransactions() {
+	}
+
+	public static void afterCommit(Runnable update) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					update.run();
+				}
+			});
+		} else {
+			update.run();
+		}
+	}
+}
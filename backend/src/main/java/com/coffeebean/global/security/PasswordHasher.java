@@ -0,0 +1,135 @@
+package com.coffeebean.global.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.coffeebean.global.exception.ServiceException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시/검증 (BCrypt)
+ * BCrypt는 한 번에 수십~수백 ms의 CPU를 쓰므로 요청 스레드에서 바로 실행하면 로그인이 몰릴 때 다른 API까지 느려진다.
+ * - CPU 코어 수만큼의 전용 워커에서만 실행해 해시 연산이 CPU를 독점하지 않게 한다.
+ * - 대기열이 가득 차면 기다리지 않고 바로 503으로 거절한다 (해시를 기다리는 요청 스레드 수도 워커 + 대기열 크기로 제한됨).
+ * - 대기열에서 오래 기다린 요청은 응답 시간이 지났을 가능성이 높으므로 시간 초과 시 취소하고 503으로 응답한다.
+ *   실행 중인 BCrypt는 인터럽트로 멈추지 않으므로 취소는 아직 시작하지 않은 작업에만 적용하고, 이미 시작한 작업은 끝까지 기다린다.
+ * 지표: password.hash (연산 시간), password.hash.wait (대기 시간), password.hash.rejected, password.hash.queue
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final String ENCODE = "encode";
+    private static final String MATCHES = "matches";
+
+    private final PasswordEncoder passwordEncoder;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${password.hasher.threads:0}") int threads,
+                          @Value("${password.hasher.queue-capacity:64}") int queueCapacity,
+                          @Value("${password.hasher.timeout-ms:3000}") long timeoutMillis) {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hasher-"));
+
+        this.encodeTimer = Timer.builder("password.hash").tag("operation", ENCODE)
+                .publishPercentiles(0.5, 0.99).register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash").tag("operation", MATCHES)
+                .publishPercentiles(0.5, 0.99).register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hash.wait")
+                .publishPercentiles(0.5, 0.99).register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected").register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        AtomicBoolean claimed = new AtomicBoolean(); // 워커가 시작하거나 시간 초과로 버리거나 둘 중 하나만
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null; // 시간 초과로 버려진 작업
+                }
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 처리 대기열이 가득 찼습니다. queue={}", executor.getQueue().size());
+            throw busy();
+        }
+
+        try {
+            try {
+                return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    executor.remove((Runnable)future); // 대기열 자리 반환 (취소만으로는 대기열에 남음)
+                    rejected.increment();
+                    log.warn("비밀번호 처리 대기 시간이 초과되었습니다. timeoutMs={}", timeoutMillis);
+                    throw busy();
+                }
+                // 이미 실행 중 - 취소해도 CPU는 계속 쓰므로 결과를 받음 (BCrypt 한 번 시간 이내)
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ServiceException busy() {
+        return new ServiceException("503-1", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
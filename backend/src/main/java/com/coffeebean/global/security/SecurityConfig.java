@@ -10,6 +10,7 @@ import com.coffeebean.global.util.JwtAuthenticationFilterFromCookie;
 import com.coffeebean.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -53,9 +54,10 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // BCrypt 비용(strength)은 배포 환경의 CPU에 맞춰 설정 (1 증가할 때마다 해시 시간 2배)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -2,7 +2,6 @@ package com.coffeebean.global.util;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -11,66 +10,49 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.coffeebean.global.exception.DataNotFoundException;
+import com.coffeebean.global.audit.RequestAuditLogger;
 
-import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilterFromCookie extends OncePerRequestFilter {
 
+    private final JwtAuthenticator jwtAuthenticator;
+    private final RequestAuditLogger requestAuditLogger;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
         HttpServletResponse response,
         FilterChain filterChain) throws ServletException, IOException {
 
-        try {
-            // 1. 쿠키에서 JWT 추출
-            Optional<String> token = JwtUtil.getJwtFromCookies(request);
-            log.info("JWT Token={}", token.orElse("No Token Found"));
-
-            if (token.isPresent()) {
-                // 2. 페이로드 조회
-                Map<String, Object> claims = JwtUtil.getPayload(token.get());
-                log.info("JWT Claims={}", claims);
-
-                // 3. 필수 클레임 검증
-                if (!claims.containsKey("email")) {
-                    throw new JwtException("유효하지 않은 토큰입니다.");
-                }
+        // 1. 쿠키의 JWT 검증 (결과는 요청 속성에 저장되어 AOP, ArgumentResolver에서 재사용)
+        long start = System.nanoTime();
+        Optional<JwtPrincipal> principal = jwtAuthenticator.authenticate(request);
+        long authNanos = System.nanoTime() - start;
 
-                // 관리자면 패스
-                if (claims.containsKey("role")) {
-                    filterChain.doFilter(request, response);
-                    return;
-                }
+        // 관리자면 패스 (권한 확인은 AdminOnlyAspect)
+        if (principal.isPresent() && !principal.get().hasRole()) {
+            // 2. DB 조회 생략
+            // 3. 인증 객체 생성 및 저장 ✅
+            CustomUserDetails customUserDetails = principal.get().toUserDetails();
 
-                // 4. 사용자 정보 조회 (클레임 추출)
-                Long userId = ((Number)claims.get("id")).longValue();
-                String email = (String)claims.get("email");
+            // 권한은 필요없어서 빈 리스트로 반환
+            Authentication authentication = new UsernamePasswordAuthenticationToken(customUserDetails,
+                null, Collections.emptyList());
 
-                // 5. DB 조회 생략
-                // 6. 인증 객체 생성 및 저장 ✅
-                CustomUserDetails customUserDetails = new CustomUserDetails(userId, email);
-                log.info("customUserDetails={}", customUserDetails);
-
-                // 권한은 필요없어서 빈 리스트로 반환
-                Authentication authentication = new UsernamePasswordAuthenticationToken(customUserDetails,
-                    null, Collections.emptyList());
-                log.info("authentication={}", authentication);
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
-            filterChain.doFilter(request, response);
-        } catch (JwtException | DataNotFoundException e) {
+        try {
             filterChain.doFilter(request, response);
+        } finally {
+            // 4. 감사 로그 (샘플링, 토큰/쿠키는 남기지 않음)
+            requestAuditLogger.record(request, response, principal, authNanos, System.nanoTime() - start);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,132 @@
+package com.coffeebean.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 쿠키의 JWT 검증
+ * 같은 토큰이 요청마다 반복해서 오므로 서명 검증에 성공한 토큰은 해시를 키로 캐시한다.
+ * - 캐시 유지 시간은 설정값과 토큰 만료(exp)까지 남은 시간 중 짧은 쪽 (만료된 토큰이 캐시로 통과하지 않게)
+ * - 최대 개수를 넘으면 오래 쓰이지 않은 토큰부터 제거
+ * - 검증에 실패한 토큰은 캐시하지 않음 (위조 토큰으로 캐시를 채울 수 없게)
+ * 검증 결과는 요청 속성에도 저장해 한 요청 안에서는 필터, AOP, ArgumentResolver가 같은 결과를 쓴다.
+ */
+@Component
+public class JwtAuthenticator {
+
+    static final String REQUEST_ATTRIBUTE = JwtAuthenticator.class.getName() + ".principal";
+
+    private final Duration maxTtl;
+    private final Cache<String, JwtPrincipal> verifiedTokens;
+
+    public JwtAuthenticator(@Value("${jwt.cache.max-size:10000}") long maxSize,
+                            @Value("${jwt.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.maxTtl = Duration.ofSeconds(ttlSeconds);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+                        return timeToLive(principal).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime,
+                                                  long currentDuration) {
+                        return timeToLive(principal).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtPrincipal principal, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 요청의 인증 정보 (요청당 한 번만 검증)
+     *
+     * @return 토큰이 없거나 유효하지 않으면 empty
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<JwtPrincipal> authenticate(HttpServletRequest request) {
+        Object resolved = request.getAttribute(REQUEST_ATTRIBUTE);
+        if (resolved != null) {
+            return (Optional<JwtPrincipal>) resolved;
+        }
+
+        Optional<JwtPrincipal> principal = JwtUtil.getJwtFromCookies(request).flatMap(this::verify);
+        request.setAttribute(REQUEST_ATTRIBUTE, principal);
+        return principal;
+    }
+
+    // 토큰 검증 (캐시에 있으면 서명 검증 생략)
+    public Optional<JwtPrincipal> verify(String token) {
+        String key = hash(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !isExpired(cached)) {
+            return Optional.of(cached);
+        }
+
+        Optional<JwtPrincipal> principal;
+        try {
+            Claims claims = JwtUtil.getClaims(token);
+            Date expiration = claims.getExpiration();
+            principal = JwtPrincipal.from(claims, expiration == null ? null : expiration.toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        principal.ifPresent(value -> verifiedTokens.put(key, value));
+        return principal;
+    }
+
+    // 캐시에 남아 있는 시간 (테스트용)
+    Optional<Duration> cachedTimeToLive(String token) {
+        return verifiedTokens.policy().expireVariably()
+                .flatMap(policy -> policy.getExpiresAfter(hash(token)));
+    }
+
+    private Duration timeToLive(JwtPrincipal principal) {
+        if (principal.expiresAt() == null) {
+            return maxTtl;
+        }
+        Duration remaining = Duration.between(Instant.now(), principal.expiresAt());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
+    }
+
+    private boolean isExpired(JwtPrincipal principal) {
+        return principal.expiresAt() != null && !Instant.now().isBefore(principal.expiresAt());
+    }
+
+    // 토큰 원문 대신 해시를 키로 사용 (힙 덤프 등에 토큰이 그대로 남지 않게)
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
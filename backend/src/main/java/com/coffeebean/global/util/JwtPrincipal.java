@@ -0,0 +1,41 @@
+package com.coffeebean.global.util;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 검증된 JWT의 인증 정보
+ * 필터에서 요청당 한 번 만들어 요청 속성에 저장하고, AdminOnlyAspect와 LoginUserArgumentResolver가 다시 파싱하지 않고 사용한다.
+ *
+ * @param userId    회원 ID (관리자 토큰이면 null)
+ * @param email     이메일 (관리자 토큰이면 관리자 아이디)
+ * @param role      권한 (일반 회원 토큰이면 null)
+ * @param expiresAt 토큰 만료 시각 (exp가 없으면 null)
+ */
+public record JwtPrincipal(Long userId, String email, String role, Instant expiresAt) {
+
+    public static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    // 필수 클레임(email)이 없으면 유효하지 않은 토큰
+    static Optional<JwtPrincipal> from(Map<String, Object> claims, Instant expiresAt) {
+        if (!(claims.get("email") instanceof String email)) {
+            return Optional.empty();
+        }
+        Long userId = claims.get("id") instanceof Number id ? id.longValue() : null;
+        String role = claims.get("role") instanceof String value ? value : null;
+        return Optional.of(new JwtPrincipal(userId, email, role, expiresAt));
+    }
+
+    public boolean hasRole() {
+        return role != null;
+    }
+
+    public boolean isAdmin() {
+        return ADMIN_ROLE.equals(role);
+    }
+
+    public CustomUserDetails toUserDetails() {
+        return new CustomUserDetails(userId, email);
+    }
+}
@@ -1,7 +1,7 @@
 package com.coffeebean.global.util;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
@@ -11,23 +11,28 @@ import javax.crypto.SecretKey;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
 @Component
 public class JwtUtil {
     private static final String SECRET_KEY = "676e27c6-60e8-49c7-8c0f-adf8e7ecaa2e";
     private static final long EXPIRATION_TIME = 1000L * 3600 * 24; // 1일 (24시간)
 
+    // 키와 파서는 요청마다 만들지 않고 재사용 (둘 다 불변, 스레드 안전)
+    private static final SecretKey SIGNING_KEY = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    private static final JwtParser PARSER = Jwts.parser()
+        .verifyWith(SIGNING_KEY)
+        .build();
+
     // JWT 생성 (추가적인 Claims 포함 가능)
     public static String createToken(Map<String, Object> claims) {
-        SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
         Date issuedAt = new Date();
         Date expiration = new Date(issuedAt.getTime() + EXPIRATION_TIME);
 
@@ -35,20 +40,14 @@ public class JwtUtil {
             .setClaims(claims) // 추가적인 claims 포함
             .setIssuedAt(issuedAt)
             .setExpiration(expiration)
-            .signWith(secretKey, SignatureAlgorithm.HS256)
+            .signWith(SIGNING_KEY, SignatureAlgorithm.HS256)
             .compact();
     }
 
     // JWT 유효성 검사
     public static boolean isValidToken(String token) {
         try {
-            SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
-
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parse(token);
-
+            PARSER.parse(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -57,13 +56,12 @@ public class JwtUtil {
 
     // JWT 페이로드 추출
     public static Map<String, Object> getPayload(String token) {
-        SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        return getClaims(token);
+    }
 
-        return (Map<String, Object>) Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parse(token)
-            .getPayload();
+    // 서명된 JWT의 클레임 추출 (서명이 없거나 만료된 토큰이면 JwtException)
+    public static Claims getClaims(String token) {
+        return PARSER.parseSignedClaims(token).getPayload();
     }
 
     // JWT를 쿠키에 저장
@@ -87,12 +85,12 @@ public class JwtUtil {
             return Optional.empty();
         }
 
-        Arrays.stream(cookies)
-            .forEach(cookie -> log.info("Cookie Name: {}, Value: {}", cookie.getName(), cookie.getValue()));
-
-        return Arrays.stream(cookies)
-            .filter(cookie -> "token".equals(cookie.getName()))
-            .map(Cookie::getValue)
-            .findFirst();
+        // 요청마다 호출되므로 스트림/로그 없이 찾음 (쿠키 값은 토큰이므로 로그에 남기지 않음)
+        for (Cookie cookie : cookies) {
+            if ("token".equals(cookie.getName())) {
+                return Optional.of(cookie.getValue());
+            }
+        }
+        return Optional.empty();
     }
 }
\ No newline at end of file
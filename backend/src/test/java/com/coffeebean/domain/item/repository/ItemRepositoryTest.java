@@ -0,0 +1,62 @@
+package com.coffeebean.domain.item.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.entity.Item;
+
+import jakarta.persistence.EntityManager;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemRepositoryTest {
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	// 조건부 UPDATE는 영속성 컨텍스트를 거치지 않으므로 비운 뒤 DB 값을 다시 읽음
+	private int stockQuantity(Long itemId) {
+		entityManager.clear();
+		return itemRepository.findById(itemId).orElseThrow().getStockQuantity();
+	}
+
+	@Test
+	@DisplayName("재고가 충분하면 조건부 UPDATE로 재고가 차감된다")
+	void decreaseStock_success() {
+		Item item = itemRepository.save(Item.builder()
+			.name("재고 차감 테스트")
+			.price(10000)
+			.stockQuantity(3)
+			.build());
+
+		int updated = itemRepository.decreaseStock(item.getId(), 2);
+
+		assertThat(updated).isEqualTo(1);
+		assertThat(stockQuantity(item.getId())).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("재고가 부족하면 차감되지 않고 0을 반환한다")
+	void decreaseStock_insufficient() {
+		Item item = itemRepository.save(Item.builder()
+			.name("재고 부족 테스트")
+			.price(10000)
+			.stockQuantity(1)
+			.build());
+
+		int updated = itemRepository.decreaseStock(item.getId(), 2);
+
+		assertThat(updated).isZero();
+		assertThat(stockQuantity(item.getId())).isEqualTo(1);
+	}
+}
@@ -0,0 +1,180 @@
+package com.coffeebean.domain.item.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryLedgerTest {
+
+	@InjectMocks
+	private InventoryLedger inventoryLedger;
+
+	@Mock
+	private ItemRepository itemRepository;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(inventoryLedger, "enabled", true);
+
+		when(itemRepository.findAll()).thenReturn(List.of(
+			Item.builder().id(1L).stockQuantity(3).build(),
+			Item.builder().id(2L).stockQuantity(1).build()
+		));
+		inventoryLedger.warmUp();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	// 트랜잭션 종료 흉내 (등록된 동기화 콜백 실행)
+	private void completeTransaction(boolean committed) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		for (TransactionSynchronization synchronization : synchronizations) {
+			if (committed) {
+				synchronization.afterCommit();
+			}
+			synchronization.afterCompletion(committed
+				? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+		}
+	}
+
+	@Test
+	@DisplayName("재고가 충분하면 선점되고, 확정된 차감분은 DB 반영 대기 목록에 쌓인다")
+	void reserveAndConfirm() {
+		Optional<InventoryLedger.Reservation> reservation = inventoryLedger.reserve(Map.of(1L, 2, 2L, 1));
+
+		assertThat(reservation).isPresent();
+		inventoryLedger.confirm(reservation.get());
+
+		assertThat(inventoryLedger.drainPending()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2, 2L, 1));
+		assertThat(inventoryLedger.drainPending()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("한 상품이라도 재고가 부족하면 선점이 모두 취소된다")
+	void reserve_insufficient() {
+		assertThat(inventoryLedger.reserve(Map.of(1L, 2, 2L, 2))).isEmpty();
+
+		// 1번 상품 선점분이 반환되어 재고 3개를 모두 선점할 수 있다
+		assertThat(inventoryLedger.reserve(Map.of(1L, 3))).isPresent();
+	}
+
+	@Test
+	@DisplayName("주문 실패로 반환한 재고는 다시 선점할 수 있다")
+	void release() {
+		InventoryLedger.Reservation reservation = inventoryLedger.reserve(Map.of(2L, 1)).orElseThrow();
+		assertThat(inventoryLedger.reserve(Map.of(2L, 1))).isEmpty();
+
+		inventoryLedger.release(reservation);
+
+		assertThat(inventoryLedger.reserve(Map.of(2L, 1))).isPresent();
+	}
+
+	@Test
+	@DisplayName("재고 지정 전에 선점한 재고를 반환해도 지정한 재고보다 늘어나지 않는다")
+	void release_afterReset() {
+		InventoryLedger.Reservation reservation = inventoryLedger.reserve(Map.of(2L, 1)).orElseThrow();
+		inventoryLedger.reset(2L, 5);
+
+		inventoryLedger.release(reservation);
+
+		assertThat(inventoryLedger.reserve(Map.of(2L, 6))).isEmpty();
+		assertThat(inventoryLedger.reserve(Map.of(2L, 5))).isPresent();
+	}
+
+	@Test
+	@DisplayName("재고 지정 전에 선점한 주문을 확정해도 지정한 재고에서 다시 차감하지 않는다")
+	void confirm_afterReset() {
+		InventoryLedger.Reservation reservation = inventoryLedger.reserve(Map.of(1L, 2)).orElseThrow();
+		inventoryLedger.reset(1L, 10);
+
+		inventoryLedger.confirm(reservation);
+
+		assertThat(inventoryLedger.drainPending()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("DB 반영에 실패해 되돌린 차감분은 다음 반영 때 다시 꺼낸다")
+	void restorePending() {
+		inventoryLedger.confirm(inventoryLedger.reserve(Map.of(1L, 2)).orElseThrow());
+		Map<Long, Integer> drained = inventoryLedger.drainPending();
+
+		inventoryLedger.restorePending(drained);
+
+		assertThat(inventoryLedger.drainPending()).containsExactlyEntriesOf(Map.of(1L, 2));
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 지정한 재고는 커밋 후에 반영되고, 미반영 차감분은 폐기된다")
+	void reset_afterCommit() {
+		inventoryLedger.confirm(inventoryLedger.reserve(Map.of(1L, 1)).orElseThrow());
+
+		TransactionSynchronizationManager.initSynchronization();
+		inventoryLedger.reset(1L, 10);
+		assertThat(inventoryLedger.reserve(Map.of(1L, 3))).isEmpty(); // 커밋 전에는 기존 재고(2개) 기준
+
+		completeTransaction(true);
+
+		assertThat(inventoryLedger.drainPending()).isEmpty();
+		assertThat(inventoryLedger.reserve(Map.of(1L, 10))).isPresent();
+	}
+
+	@Test
+	@DisplayName("재고 지정 트랜잭션이 롤백되면 장부는 바뀌지 않는다")
+	void reset_rollback() {
+		TransactionSynchronizationManager.initSynchronization();
+		inventoryLedger.reset(1L, 10);
+
+		completeTransaction(false);
+
+		assertThat(inventoryLedger.reserve(Map.of(1L, 4))).isEmpty();
+		assertThat(inventoryLedger.reserve(Map.of(1L, 3))).isPresent();
+	}
+
+	@Test
+	@DisplayName("재고 지정 트랜잭션이 끝날 때까지 차감분 DB 반영은 대기한다")
+	void reset_blocksReconcile() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+		inventoryLedger.reset(1L, 10);
+
+		AtomicBoolean reconciled = new AtomicBoolean();
+		CompletableFuture<Void> reconcile = CompletableFuture.runAsync(() ->
+			inventoryLedger.reconcile(() -> reconciled.set(true)));
+
+		assertThatThrownBy(() -> reconcile.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+		assertThat(reconciled).isFalse();
+
+		completeTransaction(true);
+
+		reconcile.get(5, TimeUnit.SECONDS);
+		assertThat(reconciled).isTrue();
+	}
+}
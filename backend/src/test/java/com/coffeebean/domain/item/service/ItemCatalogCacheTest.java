@@ -0,0 +1,93 @@
+package com.coffeebean.domain.item.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.coffeebean.domain.item.dto.ItemDto;
+import com.coffeebean.domain.item.entity.Item;
+
+class ItemCatalogCacheTest {
+
+	private final ItemCatalogCache cache = new ItemCatalogCache(100, 10, 600, 2000);
+
+	private ItemDto item(long id) {
+		return new ItemDto(Item.builder()
+			.id(id)
+			.name("상품 " + id)
+			.price(10000)
+			.stockQuantity(3)
+			.build());
+	}
+
+	private Page<ItemDto> page(int number, ItemDto... items) {
+		return new PageImpl<>(List.of(items), PageRequest.of(number, items.length), 100);
+	}
+
+	@Test
+	@DisplayName("한 번 적재한 상품은 다시 조회하지 않는다")
+	void getItem_cached() {
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getItem(1L, id -> {
+			loads.incrementAndGet();
+			return item(id);
+		});
+		cache.getItem(1L, id -> {
+			loads.incrementAndGet();
+			return item(id);
+		});
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("페이지 무효화 시 상품이 포함되지 않은 페이지도 다시 조회한다")
+	void evictPages_allPages() {
+		AtomicInteger loads = new AtomicInteger();
+		PageRequest byPrice = PageRequest.of(0, 2, Sort.by("price"));
+		cache.getPage(byPrice, () -> page(0, item(1), item(2)));
+		cache.getPage(byPrice.withPage(1), () -> page(1, item(3), item(4)));
+
+		// 3번 상품의 가격이 내려가 첫 페이지로 옮겨가야 함
+		cache.evictItem(3);
+		cache.evictPages();
+
+		cache.getPage(byPrice, () -> {
+			loads.incrementAndGet();
+			return page(0, item(3), item(1));
+		});
+		cache.getPage(byPrice.withPage(1), () -> {
+			loads.incrementAndGet();
+			return page(1, item(2), item(4));
+		});
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("재고순 페이지는 캐시하지 않는다")
+	void getPage_stockQuantitySortNotCached() {
+		AtomicInteger loads = new AtomicInteger();
+		PageRequest byStock = PageRequest.of(0, 2, Sort.by("stockQuantity").descending());
+
+		cache.getPage(byStock, () -> {
+			loads.incrementAndGet();
+			return page(0, item(1), item(2));
+		});
+		cache.getPage(byStock, () -> {
+			loads.incrementAndGet();
+			return page(0, item(2), item(1));
+		});
+
+		assertThat(loads).hasValue(2);
+	}
+}
@@ -0,0 +1,69 @@
+package com.coffeebean.domain.item.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coffeebean.domain.item.entity.Item;
+
+class ItemSearchIndexTest {
+
+	private final ItemSearchIndex index = new ItemSearchIndex();
+
+	private Item item(long id, String name, String description) {
+		return Item.builder()
+			.id(id)
+			.name(name)
+			.description(description)
+			.price(10000)
+			.stockQuantity(3)
+			.build();
+	}
+
+	@BeforeEach
+	void setUp() {
+		index.index(item(1L, "콜롬비아 수프리모", "<p>균형 잡힌 단맛의 원두</p>"));
+		index.index(item(2L, "Ethiopia Yirgacheffe", "Floral coffee beans"));
+		index.index(item(3L, "과테말라 안티구아", "스모키한 콜롬비아 스타일 블렌드"));
+	}
+
+	@Test
+	@DisplayName("상품명에 일치하는 상품이 설명에만 일치하는 상품보다 먼저 나온다")
+	void search_nameFirst() {
+		assertThat(index.search("콜롬비아", 10)).containsExactly(1L, 3L);
+	}
+
+	@Test
+	@DisplayName("접두어와 대소문자 구분 없이 검색된다")
+	void search_prefix() {
+		assertThat(index.search("ETHIO", 10)).containsExactly(2L);
+		assertThat(index.search("수프", 10)).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("한 글자 오타가 있어도 검색된다")
+	void search_typo() {
+		assertThat(index.search("yirgachefe", 10)).containsExactly(2L);
+		assertThat(index.search("안티구야", 10)).containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("HTML 태그는 색인하지 않는다")
+	void search_ignoreHtml() {
+		assertThat(index.search("p", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("수정하면 이전 내용으로는 검색되지 않고, 삭제하면 검색 결과에서 빠진다")
+	void reindexAndRemove() {
+		index.index(item(1L, "브라질 산토스", "고소한 원두"));
+		assertThat(index.search("수프리모", 10)).isEmpty();
+		assertThat(index.search("브라질", 10)).containsExactly(1L);
+
+		index.remove(1L);
+		assertThat(index.search("브라질", 10)).isEmpty();
+		assertThat(index.size()).isEqualTo(2);
+	}
+}
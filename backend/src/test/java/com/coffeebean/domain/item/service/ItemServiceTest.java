@@ -0,0 +1,99 @@
+package com.coffeebean.domain.item.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.global.exception.DataNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class ItemServiceTest {
+
+	@InjectMocks
+	private ItemService itemService;
+
+	@Mock
+	private ItemRepository itemRepository;
+
+	@Mock
+	private InventoryLedger inventoryLedger;
+
+	@Mock
+	private ItemCatalogCache itemCatalogCache;
+
+	@Mock
+	private ItemSearchIndex itemSearchIndex;
+
+	private Item item(long id, int stockQuantity) {
+		return Item.builder().id(id).name("상품" + id).price(10000).stockQuantity(stockQuantity).build();
+	}
+
+	@Test
+	@DisplayName("주문 상품 일괄 조회 - 중복된 ID가 있어도 상품별로 한 번씩 담는다")
+	void getItemsByIds() {
+		Item first = item(1L, 3);
+		Item second = item(2L, 5);
+		List<Long> itemIds = List.of(1L, 2L, 1L);
+		when(itemRepository.findAllById(itemIds)).thenReturn(List.of(first, second));
+
+		Map<Long, Item> items = itemService.getItemsByIds(itemIds);
+
+		assertThat(items).containsOnly(entry(1L, first), entry(2L, second));
+	}
+
+	@Test
+	@DisplayName("주문 상품 일괄 조회 - 없는 상품이 하나라도 있으면 예외")
+	void getItemsByIds_missing() {
+		List<Long> itemIds = List.of(1L, 2L, 99L);
+		when(itemRepository.findAllById(itemIds)).thenReturn(List.of(item(1L, 3), item(2L, 5)));
+
+		assertThatThrownBy(() -> itemService.getItemsByIds(itemIds))
+			.isInstanceOf(DataNotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("재고 검사 - 여러 상품 주문에서 모든 상품의 재고가 충분해야 true")
+	void isStockSufficient() {
+		Map<Long, Item> items = Map.of(1L, item(1L, 3), 2L, item(2L, 5));
+
+		assertThat(itemService.isStockSufficient(items, Map.of(1L, 3, 2L, 5))).isTrue();
+		assertThat(itemService.isStockSufficient(items, Map.of(1L, 1, 2L, 6))).isFalse();
+		verifyNoInteractions(itemRepository);
+	}
+
+	@Test
+	@DisplayName("재고 검사 - 조회한 상품에 없는 상품이 주문에 있으면 예외")
+	void isStockSufficient_missing() {
+		Map<Long, Item> items = Map.of(1L, item(1L, 3));
+
+		assertThatThrownBy(() -> itemService.isStockSufficient(items, Map.of(1L, 1, 99L, 1)))
+			.isInstanceOf(DataNotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("장부 차감분을 DB에 반영하지 못하면 장부를 DB 재고로 다시 맞춘다")
+	void applyReservedStock_shortage() {
+		when(itemRepository.decreaseStock(1L, 2)).thenReturn(1);
+		when(itemRepository.decreaseStock(2L, 3)).thenReturn(0);
+		when(itemRepository.findById(2L)).thenReturn(Optional.of(Item.builder().id(2L).stockQuantity(1).build()));
+
+		itemService.applyReservedStock(Map.of(1L, 2, 2L, 3));
+
+		verify(inventoryLedger).reset(2L, 1);
+		verify(inventoryLedger, never()).reset(eq(1L), anyInt());
+		verify(itemCatalogCache).evictStock(1L);
+		verify(itemCatalogCache).evictStock(2L);
+	}
+}
@@ -0,0 +1,87 @@
+package com.coffeebean.domain.item.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.global.exception.ServiceException;
+
+// 여러 트랜잭션이 동시에 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemStockConcurrencyTest {
+
+	private static final int STOCK = 3;
+	private static final int ORDERS = 20;
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	private Long itemId;
+
+	@AfterEach
+	void tearDown() {
+		if (itemId != null) {
+			itemRepository.deleteById(itemId);
+		}
+	}
+
+	@Test
+	@DisplayName("남은 재고보다 많은 주문이 동시에 들어와도 재고만큼만 차감되고 음수가 되지 않는다")
+	void reserveStock_concurrent() throws Exception {
+		itemId = itemRepository.save(Item.builder()
+			.name("동시 주문 테스트")
+			.price(10000)
+			.stockQuantity(STOCK)
+			.build()).getId();
+
+		ExecutorService executor = Executors.newFixedThreadPool(ORDERS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < ORDERS; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					try {
+						itemService.reserveStock(itemId, 1);
+						return true;
+					} catch (ServiceException e) {
+						assertThat(e.getCode()).isEqualTo("400-3");
+						return false;
+					}
+				}));
+			}
+			start.countDown();
+
+			int succeeded = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get(10, TimeUnit.SECONDS)) {
+					succeeded++;
+				}
+			}
+
+			assertThat(succeeded).isEqualTo(STOCK);
+			assertThat(itemRepository.findById(itemId).orElseThrow().getStockQuantity()).isZero();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
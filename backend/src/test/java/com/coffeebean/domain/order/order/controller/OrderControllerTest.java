@@ -0,0 +1,246 @@
+package com.coffeebean.domain.order.order.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderStatus;
+import com.coffeebean.domain.order.order.dto.OrderSearchCondition;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.order.repository.OrderRepository;
+import com.coffeebean.domain.order.order.service.OrderService;
+import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import com.coffeebean.domain.order.orderItem.repository.OrderItemRepository;
+import com.coffeebean.domain.user.user.Address;
+import com.coffeebean.domain.user.user.service.UserService;
+import com.coffeebean.global.app.AppConfig;
+
+import jakarta.servlet.http.Cookie;
+
+// 내보내기는 별도 스레드에서 실행되므로 테스트 데이터를 커밋하고 끝나면 직접 삭제 (@Transactional 사용 안 함)
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class OrderControllerTest {
+
+	private static final int EXPORT_ORDERS = OrderController.EXPORT_CHUNK_SIZE * 2 + 1;
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	private String adminAuthToken;
+	private final List<Order> orders = new ArrayList<>();
+	private final List<OrderItem> orderItems = new ArrayList<>();
+	private final List<Item> items = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		adminAuthToken = userService.loginAdmin("admin", "admin1234", new MockHttpServletResponse());
+	}
+
+	@AfterEach
+	void tearDown() {
+		orderItemRepository.deleteAll(orderItems);
+		orderRepository.deleteAll(orders);
+		itemRepository.deleteAll(items);
+	}
+
+	// 취소된 주문 (배송 상태 변경 작업의 대상이 아니므로 테스트 중 상태가 바뀌지 않음)
+	private Order saveCanceledOrder(String email) {
+		Order order = orderRepository.save(Order.builder()
+			.email(email)
+			.deliveryAddress(new Address("서울", "강남구", "12345"))
+			.deliveryStatus(DeliveryStatus.CANCELLED)
+			.orderStatus(OrderStatus.CANCELED)
+			.build());
+		orders.add(order);
+		return order;
+	}
+
+	private void saveOrderItem(Order order, String itemName, int count) {
+		Item item = itemRepository.save(Item.builder().name(itemName).price(10000).stockQuantity(10).build());
+		items.add(item);
+		orderItems.add(orderItemRepository.save(OrderItem.builder()
+			.order(order)
+			.item(item)
+			.orderPrice(item.getPrice())
+			.count(count)
+			.build()));
+	}
+
+	private long countCanceledOrders() {
+		return orderService.getOrders(
+				new OrderSearchCondition(OrderStatus.CANCELED, DeliveryStatus.CANCELLED, null, null), 0, 1)
+			.getTotalElements();
+	}
+
+	@Test
+	@DisplayName("관리자 주문 목록은 조건으로 검색하고 페이지 단위로 반환한다")
+	void getOrderList() throws Exception {
+		saveCanceledOrder("list1@exam.com");
+		saveCanceledOrder("list2@exam.com");
+		Order latest = saveCanceledOrder("list3@exam.com");
+		long total = countCanceledOrders();
+
+		mvc.perform(get("/api/v1/orders/list")
+				.param("page", "0")
+				.param("size", "2")
+				.param("orderStatus", "CANCELED")
+				.param("deliveryStatus", "CANCELLED")
+				.cookie(new Cookie("token", adminAuthToken)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.code").value("200-1"))
+			.andExpect(jsonPath("$.data.page").value(0))
+			.andExpect(jsonPath("$.data.totalElements").value(total))
+			.andExpect(jsonPath("$.data.totalPages").value((total + 1) / 2))
+			.andExpect(jsonPath("$.data.orders.length()").value(2))
+			.andExpect(jsonPath("$.data.orders[0].id").value(latest.getId()))
+			.andExpect(jsonPath("$.data.orders[*].orderStatus").value(everyItem(is("CANCELED"))))
+			.andExpect(jsonPath("$.data.orders[*].deliveryStatus").value(everyItem(is("CANCELLED"))));
+
+		// 다른 조건으로는 검색되지 않음
+		mvc.perform(get("/api/v1/orders/list")
+				.param("orderStatus", "CANCELED")
+				.param("deliveryStatus", "READY")
+				.cookie(new Cookie("token", adminAuthToken)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.orders[?(@.id == %d)]".formatted(latest.getId())).isEmpty());
+	}
+
+	@Test
+	@DisplayName("주문 목록의 주문 상품은 별도 쿼리로 조회해 주문별로 채운다")
+	void getOrderList_orderItems() throws Exception {
+		Order withItems = saveCanceledOrder("items@exam.com");
+		saveOrderItem(withItems, "첫 번째 원두", 1);
+		saveOrderItem(withItems, "두 번째 원두", 2);
+		Order withoutItems = saveCanceledOrder("no-items@exam.com");
+
+		mvc.perform(get("/api/v1/orders/list")
+				.param("size", "2")
+				.param("orderStatus", "CANCELED")
+				.param("deliveryStatus", "CANCELLED")
+				.cookie(new Cookie("token", adminAuthToken)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.orders[0].id").value(withoutItems.getId()))
+			.andExpect(jsonPath("$.data.orders[0].orderItems").isEmpty())
+			.andExpect(jsonPath("$.data.orders[1].id").value(withItems.getId()))
+			.andExpect(jsonPath("$.data.orders[1].orderItems.length()").value(2))
+			.andExpect(jsonPath("$.data.orders[1].orderItems[*].itemName").value(
+				containsInAnyOrder("첫 번째 원두", "두 번째 원두")));
+	}
+
+	@Test
+	@DisplayName("주문 내보내기는 청크 크기보다 많은 주문도 한 줄에 하나씩 모두 보낸다")
+	void exportOrderList() throws Exception {
+		for (int i = 0; i < EXPORT_ORDERS; i++) {
+			saveCanceledOrder("export%d@exam.com".formatted(i));
+		}
+		long total = countCanceledOrders();
+
+		MvcResult started = mvc.perform(get("/api/v1/orders/list/export")
+				.param("orderStatus", "CANCELED")
+				.param("deliveryStatus", "CANCELLED")
+				.cookie(new Cookie("token", adminAuthToken)))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		String body = mvc.perform(asyncDispatch(started))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getContentAsString(StandardCharsets.UTF_8);
+
+		List<String> lines = body.lines().toList();
+		assertThat(total).isGreaterThan(OrderController.EXPORT_CHUNK_SIZE * 2L);
+		assertThat(lines).hasSize((int)total);
+
+		List<Long> ids = new ArrayList<>();
+		for (String line : lines) {
+			ids.add(AppConfig.getObjectMapper().readTree(line).get("id").asLong());
+		}
+		assertThat(ids).doesNotHaveDuplicates().isSortedAccordingTo((a, b) -> Long.compare(b, a));
+	}
+
+	@Test
+	@DisplayName("주문 내보내기는 모든 줄을 쓸 때까지 응답 스트림을 닫지 않는다")
+	void exportOrderList_keepsStreamOpen() throws Exception {
+		for (int i = 0; i < OrderController.EXPORT_CHUNK_SIZE + 1; i++) {
+			saveCanceledOrder("stream%d@exam.com".formatted(i));
+		}
+		long total = countCanceledOrders();
+
+		// 닫힌 뒤의 쓰기를 무시하는 서블릿 응답 스트림처럼 동작 (Tomcat과 같음)
+		CloseTrackingOutputStream out = new CloseTrackingOutputStream();
+		StreamingResponseBody body = new OrderController(orderService, null, null)
+			.exportOrderList(OrderStatus.CANCELED, DeliveryStatus.CANCELLED, null, null)
+			.getBody();
+		body.writeTo(out);
+
+		assertThat(out.closed).isFalse();
+		assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize((int)total);
+	}
+
+	static class CloseTrackingOutputStream extends ByteArrayOutputStream {
+
+		private boolean closed;
+
+		@Override
+		public synchronized void write(int b) {
+			if (!closed) {
+				super.write(b);
+			}
+		}
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) {
+			if (!closed) {
+				super.write(b, off, len);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+			super.close();
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.coffeebean.domain.order.order.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderDto;
+import com.coffeebean.domain.order.order.OrderStatus;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import com.coffeebean.domain.order.orderItem.repository.OrderItemRepository;
+import com.coffeebean.domain.user.user.Address;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderRepositoryTest {
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	private Item saveItem(String name, int price) {
+		return itemRepository.save(Item.builder()
+			.name(name)
+			.price(price)
+			.stockQuantity(10)
+			.build());
+	}
+
+	private Order saveOrder(String email, Item... items) {
+		Order order = orderRepository.save(Order.builder()
+			.email(email)
+			.deliveryAddress(new Address("서울", "강남구", "12345"))
+			.deliveryStatus(DeliveryStatus.READY)
+			.orderStatus(OrderStatus.ORDER)
+			.build());
+
+		for (Item item : items) {
+			orderItemRepository.save(OrderItem.builder()
+				.order(order)
+				.item(item)
+				.orderPrice(item.getPrice())
+				.count(2)
+				.build());
+		}
+		return order;
+	}
+
+	@Test
+	@DisplayName("주문 목록 프로젝션 - 대표 상품명과 전체 금액을 쿼리 한 번으로 조회")
+	void findOrderDtosByEmail() {
+		Item first = saveItem("첫 번째 원두", 10000);
+		Item second = saveItem("두 번째 원두", 5000);
+		Order order = saveOrder("projection@exam.com", first, second);
+		saveOrder("other@exam.com", second);
+
+		List<OrderDto> orders = orderRepository.findOrderDtosByEmail("projection@exam.com", Pageable.unpaged());
+
+		assertThat(orders).hasSize(1);
+		OrderDto dto = orders.get(0);
+		assertThat(dto.getOrderId()).isEqualTo(order.getId());
+		assertThat(dto.getItemName()).isEqualTo("첫 번째 원두");
+		assertThat(dto.getTotalPrice()).isEqualTo(10000 * 2 + 5000 * 2);
+		assertThat(dto.getDeliveryStatus()).isEqualTo(DeliveryStatus.READY);
+	}
+
+	@Test
+	@DisplayName("주문 목록 키셋 페이징 - 커서 이후 주문만 최신순으로 조회")
+	void findOrderDtosByEmailBefore() {
+		Item item = saveItem("원두", 10000);
+		Order oldest = saveOrder("keyset@exam.com", item);
+		Order middle = saveOrder("keyset@exam.com", item);
+		Order newest = saveOrder("keyset@exam.com", item);
+
+		List<OrderDto> firstPage = orderRepository.findOrderDtosByEmail("keyset@exam.com", PageRequest.of(0, 2));
+		OrderDto last = firstPage.get(firstPage.size() - 1);
+		List<OrderDto> secondPage = orderRepository.findOrderDtosByEmailBefore("keyset@exam.com",
+			last.getOrderDate(), last.getOrderId(), PageRequest.of(0, 2));
+
+		assertThat(firstPage).extracting(OrderDto::getOrderId).containsExactly(newest.getId(), middle.getId());
+		assertThat(secondPage).extracting(OrderDto::getOrderId).containsExactly(oldest.getId());
+	}
+}
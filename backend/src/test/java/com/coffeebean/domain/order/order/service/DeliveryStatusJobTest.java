@@ -0,0 +1,55 @@
+package com.coffeebean.domain.order.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class DeliveryStatusJobTest {
+
+	// 연결하지 않는 커넥션 풀 (크기 설정만 사용)
+	private DeliveryStatusJob job(int maximumPoolSize, int parallelism) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setMaximumPoolSize(maximumPoolSize);
+
+		DeliveryStatusJob job = new DeliveryStatusJob(null, dataSource);
+		ReflectionTestUtils.setField(job, "parallelism", parallelism);
+		ReflectionTestUtils.setField(job, "reservedConnections", 3);
+		return job;
+	}
+
+	@Test
+	@DisplayName("동시 파티션 수 기본값은 예비 커넥션을 뺀 커넥션 풀 크기를 넘지 않는다")
+	void resolveParallelism_default() {
+		DeliveryStatusJob job = job(5, 0);
+
+		job.validateParallelism();
+
+		assertThat(job.resolveParallelism())
+			.isLessThanOrEqualTo(2)
+			.isEqualTo(Math.min(Runtime.getRuntime().availableProcessors(), 2));
+	}
+
+	@Test
+	@DisplayName("커넥션 풀이 예비 커넥션보다 작아도 파티션 하나는 실행한다")
+	void resolveParallelism_smallPool() {
+		DeliveryStatusJob job = job(2, 0);
+
+		job.validateParallelism();
+
+		assertThat(job.resolveParallelism()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("설정한 동시 파티션 수가 커넥션 풀 제한을 넘으면 기동에 실패한다")
+	void validateParallelism_exceedsPool() {
+		DeliveryStatusJob job = job(10, 8);
+
+		assertThatThrownBy(job::validateParallelism)
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("7 이하");
+	}
+}
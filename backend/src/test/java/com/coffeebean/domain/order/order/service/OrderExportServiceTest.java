@@ -0,0 +1,115 @@
+package com.coffeebean.domain.order.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.order.order.DeliveryStatus;
+import com.coffeebean.domain.order.order.OrderExportFormat;
+import com.coffeebean.domain.order.order.OrderStatus;
+import com.coffeebean.domain.order.order.dto.OrderSearchCondition;
+import com.coffeebean.domain.order.order.entity.Order;
+import com.coffeebean.domain.order.order.repository.OrderRepository;
+import com.coffeebean.domain.order.orderItem.entity.OrderItem;
+import com.coffeebean.domain.order.orderItem.repository.OrderItemRepository;
+import com.coffeebean.domain.user.user.Address;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderExportServiceTest {
+
+	@Autowired
+	private OrderExportService orderExportService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderItemRepository orderItemRepository;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Test
+	@DisplayName("주문 상품 단위로 gzip 압축된 CSV를 내보낸다")
+	void exportCsv() throws IOException {
+		Item item = itemRepository.save(Item.builder()
+			.name("원두, 1kg")
+			.price(10000)
+			.stockQuantity(10)
+			.build());
+		Order order = orderRepository.save(Order.builder()
+			.email("export@exam.com")
+			.deliveryAddress(new Address("서울", "강남구", "12345"))
+			.deliveryStatus(DeliveryStatus.READY)
+			.orderStatus(OrderStatus.ORDER)
+			.build());
+		orderItemRepository.save(OrderItem.builder()
+			.order(order)
+			.item(item)
+			.orderPrice(10000)
+			.count(3)
+			.build());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		orderExportService.export(new OrderSearchCondition(OrderStatus.ORDER, DeliveryStatus.READY, null, null),
+			OrderExportFormat.CSV, out);
+
+		String csv;
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+
+		assertThat(csv).startsWith("\uFEFForder_id,");
+		assertThat(csv).contains("export@exam.com,ORDER,READY,%d,\"원두, 1kg\",10000,3,30000".formatted(item.getId()));
+	}
+
+	@Test
+	@DisplayName("수식으로 시작하는 값은 앞에 '를 붙여 CSV로 내보낸다")
+	void exportCsv_formulaInjection() throws IOException {
+		Item item = itemRepository.save(Item.builder()
+			.name("=HYPERLINK(\"http://evil\",\"원두\")")
+			.price(10000)
+			.stockQuantity(10)
+			.build());
+		Order order = orderRepository.save(Order.builder()
+			.email("@formula@exam.com")
+			.deliveryAddress(new Address("서울", "강남구", "12345"))
+			.deliveryStatus(DeliveryStatus.READY)
+			.orderStatus(OrderStatus.ORDER)
+			.build());
+		orderItemRepository.save(OrderItem.builder()
+			.order(order)
+			.item(item)
+			.orderPrice(10000)
+			.count(1)
+			.build());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		orderExportService.export(new OrderSearchCondition(OrderStatus.ORDER, DeliveryStatus.READY, null, null),
+			OrderExportFormat.CSV, out);
+
+		String csv;
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+
+		assertThat(csv).contains(
+			"'@formula@exam.com,ORDER,READY,%d,\"'=HYPERLINK(\"\"http://evil\"\",\"\"원두\"\")\",10000,1,10000"
+				.formatted(item.getId()));
+	}
+}
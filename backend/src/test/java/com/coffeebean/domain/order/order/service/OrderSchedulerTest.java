@@ -5,12 +5,11 @@ import com.coffeebean.domain.order.order.OrderStatus;
 import com.coffeebean.domain.order.order.entity.Order;
 import com.coffeebean.domain.order.order.repository.OrderRepository;
 import com.coffeebean.domain.user.user.service.MailService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
@@ -21,17 +20,18 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+// 청크 크기를 2로 줄여 여러 청크에 걸쳐 처리되는지 확인
+@SpringBootTest(properties = {"order.delivery-job.chunk-size=2", "order.delivery-job.parallelism=1"})
 @ActiveProfiles("test")
-@ExtendWith(MockitoExtension.class)
 class OrderSchedulerTest {
 
-    @MockitoSpyBean
+    @Autowired
     private OrderRepository orderRepository;
 
     @MockitoSpyBean
@@ -45,23 +45,33 @@ class OrderSchedulerTest {
 
     private static final String TEST_TIME = "Asia/Seoul"; // 한국 시간대
 
+    private final List<Order> orders = new ArrayList<>();
+
     @BeforeEach
     void setUp() {
+        // 테스트용 주문 데이터 (배송 준비 2건, 배송 중 1건, 취소 1건)
+        orders.add(saveOrder(DeliveryStatus.READY, OrderStatus.ORDER));
+        orders.add(saveOrder(DeliveryStatus.READY, OrderStatus.ORDER));
+        orders.add(saveOrder(DeliveryStatus.START, OrderStatus.ORDER));
+        orders.add(saveOrder(DeliveryStatus.CANCELLED, OrderStatus.CANCELED));
+    }
 
-        // 테스트용 주문 데이터
-        Order order1 = Order.builder()
-                .id(1L)
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll(orders);
+    }
+
+    private Order saveOrder(DeliveryStatus deliveryStatus, OrderStatus orderStatus) {
+        return orderRepository.save(Order.builder()
                 .email("jmskkr@naver.com")
                 .deliveryAddress(new Address("서울", "강남구", "12345"))
-                .deliveryStatus(DeliveryStatus.READY)
-                .orderStatus(OrderStatus.ORDER)
-                .orderDate(LocalDateTime.now())
-                .build();
-
-        when(orderRepository.findByDeliveryStatusIn(List.of(DeliveryStatus.READY, DeliveryStatus.START)))
-                .thenReturn(List.of(order1));
+                .deliveryStatus(deliveryStatus)
+                .orderStatus(orderStatus)
+                .build());
+    }
 
-        doCallRealMethod().when(orderService).updateDeliveryStatus();
+    private DeliveryStatus deliveryStatusOf(Order order) {
+        return orderRepository.findById(order.getId()).get().getDeliveryStatus();
     }
 
     @Test
@@ -77,12 +87,26 @@ class OrderSchedulerTest {
         orderScheduler.scheduledDelivery();
 
         // 배송상태 변경 검증
-        verify(orderService, times(1)).updateDeliveryStatus();
+        assertThat(deliveryStatusOf(orders.get(0))).isEqualTo(DeliveryStatus.START);
+        assertThat(deliveryStatusOf(orders.get(1))).isEqualTo(DeliveryStatus.START);
+        assertThat(deliveryStatusOf(orders.get(2))).isEqualTo(DeliveryStatus.DONE);
+        assertThat(deliveryStatusOf(orders.get(3))).isEqualTo(DeliveryStatus.CANCELLED);
 
-        verify(orderRepository, times(1)).findByDeliveryStatusIn(anyList());
+        // 청크 단위 처리 검증 (2건 + 1건)
+        verify(orderService, times(2)).updateDeliveryStatusChunk(anyLong(), anyLong(), any(), eq(2));
 
-        // 메일 전송 검증
-        verify(mailService, times(1)).sendMailToUser(anyString(), anyString(), anyString());
+        // 메일 전송 검증 (아웃박스 폴러가 커밋된 메일을 워커 스레드에서 발송)
+        verify(mailService, timeout(3000).atLeast(3)).sendMailToUser(eq("jmskkr@naver.com"), anyString(), anyString());
     }
 
+    @Test
+    @DisplayName("같은 날 다시 실행해도 이미 변경된 주문은 다시 변경되지 않음")
+    void rerunSameDay() {
+        orderScheduler.scheduledDelivery();
+        orderScheduler.scheduledDelivery();
+
+        assertThat(deliveryStatusOf(orders.get(0))).isEqualTo(DeliveryStatus.START);
+        assertThat(deliveryStatusOf(orders.get(1))).isEqualTo(DeliveryStatus.START);
+        assertThat(deliveryStatusOf(orders.get(2))).isEqualTo(DeliveryStatus.DONE);
+    }
 }
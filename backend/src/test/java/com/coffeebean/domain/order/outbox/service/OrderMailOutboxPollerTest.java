@@ -0,0 +1,124 @@
+package com.coffeebean.domain.order.outbox.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.coffeebean.domain.order.outbox.entity.OrderMailOutbox;
+import com.coffeebean.global.email.MailDispatcher;
+import com.coffeebean.global.lock.SchedulerLockService;
+
+@ExtendWith(MockitoExtension.class)
+class OrderMailOutboxPollerTest {
+
+	@InjectMocks
+	private OrderMailOutboxPoller orderMailOutboxPoller;
+
+	@Mock
+	private OrderMailOutboxService orderMailOutboxService;
+
+	@Mock
+	private MailDispatcher mailDispatcher;
+
+	@Mock
+	private SchedulerLockService schedulerLockService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(orderMailOutboxPoller, "batchSize", 100);
+
+		// 잠금은 항상 획득한 것으로
+		when(schedulerLockService.runWithLock(anyString(), any())).thenAnswer(invocation -> {
+			invocation.<Runnable>getArgument(1).run();
+			return true;
+		});
+	}
+
+	private OrderMailOutbox outbox(long id) {
+		OrderMailOutbox outbox = OrderMailOutbox.builder().id(id).email("user@exam.com").subject("제목").content("내용")
+			.build();
+		outbox.markSending();
+		return outbox;
+	}
+
+	@Test
+	@DisplayName("발송 대기열의 남은 자리만큼만 선점한다")
+	void poll_claimsAvailableCapacity() {
+		when(mailDispatcher.availableCapacity()).thenReturn(3);
+
+		orderMailOutboxPoller.poll();
+
+		verify(orderMailOutboxService).claimPending(eq(3), anyCollection());
+	}
+
+	@Test
+	@DisplayName("발송 대기열이 가득 차 있으면 선점하지 않는다")
+	void poll_queueFull() {
+		when(mailDispatcher.availableCapacity()).thenReturn(0);
+
+		orderMailOutboxPoller.poll();
+
+		verify(orderMailOutboxService, never()).claimPending(anyInt(), anyCollection());
+	}
+
+	@Test
+	@DisplayName("이 서버의 대기열에서 거절된 메일은 시도 횟수를 늘리지 않고 되돌린다")
+	void poll_locallyRejected() {
+		when(mailDispatcher.availableCapacity()).thenReturn(1);
+		when(orderMailOutboxService.claimPending(eq(1), anyCollection())).thenReturn(List.of(outbox(1L)));
+		when(mailDispatcher.dispatch(anyString(), anyString(), anyString(), eq(1)))
+			.thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("메일 발송 대기열이 가득 찼습니다.")));
+
+		orderMailOutboxPoller.poll();
+
+		verify(orderMailOutboxService).release(eq(1L), any());
+		verify(orderMailOutboxService, never()).markFailed(anyLong(), any(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("발송 결과를 기다리는 메일은 다음 선점 때 발송 중으로 넘기고, 결과가 나오면 선점 시각과 함께 반영한다")
+	void poll_inFlight() {
+		OrderMailOutbox outbox = outbox(1L);
+		CompletableFuture<Void> sending = new CompletableFuture<>();
+		when(mailDispatcher.availableCapacity()).thenReturn(1);
+		when(orderMailOutboxService.claimPending(eq(1), anyCollection())).thenReturn(List.of(outbox), List.of());
+		when(mailDispatcher.dispatch(anyString(), anyString(), anyString(), eq(1))).thenReturn(sending);
+
+		orderMailOutboxPoller.poll();
+		orderMailOutboxPoller.poll();
+		verify(orderMailOutboxService).claimPending(1, Set.of(1L));
+
+		sending.complete(null);
+		verify(orderMailOutboxService).markSent(1L, outbox.getClaimedDate());
+
+		orderMailOutboxPoller.poll();
+		verify(orderMailOutboxService, times(2)).claimPending(1, Set.of());
+	}
+
+	@Test
+	@DisplayName("SMTP 발송 실패는 시도 횟수에 포함한다")
+	void poll_sendFailed() {
+		when(mailDispatcher.availableCapacity()).thenReturn(1);
+		when(orderMailOutboxService.claimPending(eq(1), anyCollection())).thenReturn(List.of(outbox(1L)));
+		when(mailDispatcher.dispatch(anyString(), anyString(), anyString(), eq(1)))
+			.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("SMTP 오류")));
+
+		orderMailOutboxPoller.poll();
+
+		verify(orderMailOutboxService).markFailed(eq(1L), any(), eq(true));
+		verify(orderMailOutboxService, never()).release(anyLong(), any());
+	}
+}
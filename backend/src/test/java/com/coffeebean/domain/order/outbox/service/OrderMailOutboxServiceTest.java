@@ -0,0 +1,213 @@
+package com.coffeebean.domain.order.outbox.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coffeebean.domain.order.outbox.OutboxStatus;
+import com.coffeebean.domain.order.outbox.entity.OrderMailOutbox;
+import com.coffeebean.domain.order.outbox.repository.OrderMailOutboxRepository;
+
+// 폴러가 테스트 중 메일을 선점하지 않도록 폴링 주기를 늘림
+@SpringBootTest(properties = {
+	"mail.outbox.poll-delay-ms=3600000",
+	"mail.outbox.max-attempts=3",
+	"mail.outbox.backoff-ms=0",
+	"mail.outbox.retention-days=7"
+})
+@ActiveProfiles("test")
+class OrderMailOutboxServiceTest {
+
+	@Autowired
+	private OrderMailOutboxService orderMailOutboxService;
+
+	@Autowired
+	private OrderMailOutboxRepository orderMailOutboxRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		orderMailOutboxRepository.deleteAll();
+	}
+
+	private void enqueue(String email) {
+		transactionTemplate.executeWithoutResult(status ->
+			orderMailOutboxService.enqueue(email, "배송이 시작되었습니다.", "주문번호[1]의 상품의 배송이 시작되었습니다."));
+	}
+
+	@Test
+	@DisplayName("알림 메일 등록은 주문 트랜잭션 밖에서 호출할 수 없다")
+	void enqueue_mandatory() {
+		assertThatThrownBy(() -> orderMailOutboxService.enqueue("user@exam.com", "제목", "내용"))
+			.isInstanceOf(IllegalTransactionStateException.class);
+		assertThat(orderMailOutboxRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 등록한 메일은 커밋 후 발송 대기 상태로 저장된다")
+	void enqueue() {
+		enqueue("user@exam.com");
+
+		List<OrderMailOutbox> outboxes = orderMailOutboxRepository.findAll();
+		assertThat(outboxes).hasSize(1);
+		assertThat(outboxes.getFirst().getStatus()).isEqualTo(OutboxStatus.PENDING);
+		assertThat(outboxes.getFirst().getEmail()).isEqualTo("user@exam.com");
+	}
+
+	@Test
+	@DisplayName("선점한 메일은 오래된 순으로 batchSize만큼 반환되고 다시 선점되지 않는다")
+	void claimPending() {
+		enqueue("user1@exam.com");
+		enqueue("user2@exam.com");
+		enqueue("user3@exam.com");
+
+		List<OrderMailOutbox> first = orderMailOutboxService.claimPending(2, Set.of());
+		List<OrderMailOutbox> second = orderMailOutboxService.claimPending(2, Set.of());
+
+		assertThat(first).extracting(OrderMailOutbox::getEmail).containsExactly("user1@exam.com", "user2@exam.com");
+		assertThat(second).extracting(OrderMailOutbox::getEmail).containsExactly("user3@exam.com");
+		assertThat(orderMailOutboxService.claimPending(2, Set.of())).isEmpty();
+		assertThat(orderMailOutboxRepository.findAll())
+			.allSatisfy(outbox -> assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.SENDING));
+	}
+
+	@Test
+	@DisplayName("선점 후 오래 완료되지 않은 메일은 다시 선점할 수 있다")
+	void claimPending_releaseStale() {
+		enqueue("user@exam.com");
+		Long id = orderMailOutboxService.claimPending(10, Set.of()).getFirst().getId();
+		assertThat(orderMailOutboxService.claimPending(10, Set.of())).isEmpty();
+
+		// 발송 도중 서버가 종료되어 선점 상태로 남은 상황
+		jdbcTemplate.update("update order_mail_outbox set claimed_date = ? where id = ?",
+			LocalDateTime.now().minusHours(1), id);
+
+		assertThat(orderMailOutboxService.claimPending(10, Set.of())).extracting(OrderMailOutbox::getId).containsExactly(id);
+	}
+
+	@Test
+	@DisplayName("이 서버에서 아직 발송 중인 메일은 선점 시간이 지나도 다시 선점되지 않는다")
+	void claimPending_keepsInFlight() {
+		enqueue("user@exam.com");
+		Long id = orderMailOutboxService.claimPending(10, Set.of()).getFirst().getId();
+		jdbcTemplate.update("update order_mail_outbox set claimed_date = ? where id = ?",
+			LocalDateTime.now().minusHours(1), id);
+
+		assertThat(orderMailOutboxService.claimPending(10, Set.of(id))).isEmpty();
+		assertThat(orderMailOutboxRepository.findById(id).orElseThrow().getStatus()).isEqualTo(OutboxStatus.SENDING);
+	}
+
+	@Test
+	@DisplayName("선점이 풀려 다시 선점된 메일에는 이전 선점의 발송 결과를 반영하지 않는다")
+	void markSent_staleClaim() {
+		enqueue("user@exam.com");
+		Long id = orderMailOutboxService.claimPending(10, Set.of()).getFirst().getId();
+		// 첫 선점 후 발송 결과가 반영되지 않은 채 선점 시간이 지남
+		LocalDateTime firstClaim = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.MILLIS);
+		jdbcTemplate.update("update order_mail_outbox set claimed_date = ? where id = ?", firstClaim, id);
+		OrderMailOutbox second = orderMailOutboxService.claimPending(10, Set.of()).getFirst();
+
+		orderMailOutboxService.markSent(id, firstClaim);
+		orderMailOutboxService.markFailed(id, firstClaim, false);
+
+		OrderMailOutbox outbox = orderMailOutboxRepository.findById(id).orElseThrow();
+		assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.SENDING);
+		assertThat(outbox.getAttempts()).isZero();
+
+		orderMailOutboxService.markSent(id, second.getClaimedDate());
+		assertThat(orderMailOutboxRepository.findById(id).orElseThrow().getStatus())
+			.isEqualTo(OutboxStatus.SENT);
+	}
+
+	@Test
+	@DisplayName("일시적인 실패는 최대 시도 횟수까지 재시도하고 이후 FAILED가 된다")
+	void markFailed_maxAttempts() {
+		enqueue("user@exam.com");
+
+		for (int attempt = 1; attempt <= 3; attempt++) {
+			OrderMailOutbox claimed = orderMailOutboxService.claimPending(10, Set.of()).getFirst();
+			orderMailOutboxService.markFailed(claimed.getId(), claimed.getClaimedDate(), true);
+		}
+
+		OrderMailOutbox outbox = orderMailOutboxRepository.findAll().getFirst();
+		assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+		assertThat(outbox.getAttempts()).isEqualTo(3);
+		assertThat(orderMailOutboxService.claimPending(10, Set.of())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("영구 실패는 재시도하지 않고 바로 FAILED가 된다")
+	void markFailed_notRetryable() {
+		enqueue("wrong-address");
+		OrderMailOutbox claimed = orderMailOutboxService.claimPending(10, Set.of()).getFirst();
+		Long id = claimed.getId();
+
+		orderMailOutboxService.markFailed(id, claimed.getClaimedDate(), false);
+
+		assertThat(orderMailOutboxRepository.findById(id).orElseThrow().getStatus()).isEqualTo(OutboxStatus.FAILED);
+	}
+
+	@Test
+	@DisplayName("발송을 시도하지 못하고 되돌린 메일은 시도 횟수 없이 다시 선점된다")
+	void release() {
+		enqueue("user@exam.com");
+		OrderMailOutbox claimed = orderMailOutboxService.claimPending(10, Set.of()).getFirst();
+		Long id = claimed.getId();
+
+		orderMailOutboxService.release(id, claimed.getClaimedDate());
+
+		OrderMailOutbox outbox = orderMailOutboxRepository.findById(id).orElseThrow();
+		assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+		assertThat(outbox.getAttempts()).isZero();
+		assertThat(orderMailOutboxService.claimPending(10, Set.of())).extracting(OrderMailOutbox::getId).containsExactly(id);
+	}
+
+	@Test
+	@DisplayName("재시도 대기 시간이 지나기 전에는 선점되지 않는다")
+	void claimPending_backoff() {
+		OrderMailOutbox outbox = OrderMailOutbox.builder().email("user@exam.com").subject("제목").content("내용").build();
+		outbox.markFailed(3, 60_000, true);
+		orderMailOutboxRepository.save(outbox);
+
+		assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+		assertThat(outbox.getNextAttemptDate()).isAfter(LocalDateTime.now());
+		assertThat(orderMailOutboxService.claimPending(10, Set.of())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("보관 기간이 지난 발송 완료 메일만 삭제된다")
+	void purgeSent() {
+		enqueue("old@exam.com");
+		enqueue("recent@exam.com");
+		enqueue("failed@exam.com");
+		List<OrderMailOutbox> claimed = orderMailOutboxService.claimPending(10, Set.of());
+		orderMailOutboxService.markSent(claimed.get(0).getId(), claimed.get(0).getClaimedDate());
+		orderMailOutboxService.markSent(claimed.get(1).getId(), claimed.get(1).getClaimedDate());
+		orderMailOutboxService.markFailed(claimed.get(2).getId(), claimed.get(2).getClaimedDate(), false);
+		jdbcTemplate.update("update order_mail_outbox set sent_date = ? where id = ?",
+			LocalDateTime.now().minusDays(8), claimed.get(0).getId());
+
+		assertThat(orderMailOutboxService.purgeSent()).isEqualTo(1);
+
+		assertThat(orderMailOutboxRepository.findAll()).extracting(OrderMailOutbox::getEmail)
+			.containsExactlyInAnyOrder("recent@exam.com", "failed@exam.com");
+	}
+}
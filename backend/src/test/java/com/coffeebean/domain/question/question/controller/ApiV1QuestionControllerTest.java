@@ -135,6 +135,53 @@ class ApiV1QuestionControllerTest {
 			.andExpect(jsonPath("$.data[1].answer").isEmpty());
 	}
 
+	@Test
+	@DisplayName("질문 검색 - 제목에 일치하는 질문이 먼저 나온다")
+	void searchQuestions() throws Exception {
+		ResultActions resultActions = mvc
+			.perform(
+				get("/api/v1/questions/search")
+					.param("q", "입고")
+			)
+			.andDo(print());
+
+		resultActions
+			.andExpect(status().isOk())
+			.andExpect(handler().handlerType(ApiV1QuestionController.class))
+			.andExpect(handler().methodName("searchQuestions"))
+			.andExpect(jsonPath("$.code").value("200-1"))
+			.andExpect(jsonPath("$.data[0].id").value("1"))
+			.andExpect(jsonPath("$.data[0].subject").value("입고 질문"));
+	}
+
+	@Test
+	@DisplayName("질문 검색 - 자모로 입력한 검색어와 받침이 다음 글자로 넘어간 검색어")
+	void searchQuestions_jamo() throws Exception {
+		for (String query : new String[] {"ㅇㅝㄴㅅㅏㄴㅈㅣ", "원산ㅈ", "원산징"}) {
+			mvc.perform(
+					get("/api/v1/questions/search")
+						.param("q", query)
+				)
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.code").value("200-1"))
+				.andExpect(jsonPath("$.data[0].subject").value("상품 원산지 관련 문의입니다."));
+		}
+	}
+
+	@Test
+	@DisplayName("질문 검색 - 일치하는 질문이 없으면 빈 목록")
+	void searchQuestions_noMatch() throws Exception {
+		mvc.perform(
+				get("/api/v1/questions/search")
+					.param("q", "환불")
+			)
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.msg").value("질문 검색 결과 0건이 조회되었습니다."))
+			.andExpect(jsonPath("$.data").isEmpty());
+	}
+
 	@Test
 	@DisplayName("질문 삭제 - 관리자, 사용자만 삭제 가능")
 	void deleteQuestion() throws Exception {
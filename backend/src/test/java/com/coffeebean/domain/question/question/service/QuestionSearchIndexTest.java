@@ -0,0 +1,71 @@
+package com.coffeebean.domain.question.question.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coffeebean.domain.question.question.entity.Question;
+
+class QuestionSearchIndexTest {
+
+	private final QuestionSearchIndex index = new QuestionSearchIndex();
+
+	private Question question(long id, String subject, String content) {
+		return Question.builder()
+			.id(id)
+			.subject(subject)
+			.content(content)
+			.build();
+	}
+
+	@BeforeEach
+	void setUp() {
+		index.index(question(1L, "입고 질문", "언제 이 상품이 입고가 될까요"));
+		index.index(question(2L, "원산지 문의", "<p>콜롬비아 수프리모 원두의 원산지가 궁금합니다</p>"));
+		index.index(question(3L, "수프리모 배송 문의", "주문했는데 언제 배송되나요"));
+	}
+
+	@Test
+	@DisplayName("제목에 일치하는 질문이 내용에만 일치하는 질문보다 먼저 나온다")
+	void search_subjectFirst() {
+		assertThat(index.search("수프리모", 10)).containsExactly(3L, 2L);
+		assertThat(index.search("언제", 10)).containsExactly(1L, 3L);
+	}
+
+	@Test
+	@DisplayName("자모로 입력한 검색어는 음절로 합쳐서 검색한다")
+	void search_jamo() {
+		assertThat(index.search("ㅇㅝㄴㅅㅏㄴㅈㅣ", 10)).containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("마지막 글자가 초성뿐이면 그 초성으로 시작하는 음절로 확장한다")
+	void search_incompleteSyllable() {
+		assertThat(index.search("원산ㅈ", 10)).containsExactly(2L);
+		assertThat(index.search("배ㅅ", 10)).containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("마지막 음절의 받침이 다음 글자의 초성이어도 검색된다")
+	void search_jongseongAlternative() {
+		assertThat(index.search("수프림", 10)).containsExactly(3L, 2L);
+		assertThat(index.search("궁금합", 10)).containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("HTML 태그는 색인하지 않는다")
+	void search_ignoreHtml() {
+		assertThat(index.search("p", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("삭제하면 검색 결과에서 빠진다")
+	void remove() {
+		index.remove(3L);
+
+		assertThat(index.search("수프리모", 10)).containsExactly(2L);
+		assertThat(index.size()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,97 @@
+package com.coffeebean.domain.question.question.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.coffeebean.domain.item.service.ItemService;
+import com.coffeebean.domain.question.question.entity.Question;
+import com.coffeebean.domain.question.question.repository.QuestionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionServiceTest {
+
+	@Mock
+	private QuestionRepository questionRepository;
+
+	@Mock
+	private ItemService itemService;
+
+	private final QuestionSearchIndex questionSearchIndex = new QuestionSearchIndex();
+
+	private QuestionService questionService;
+
+	private final Question stock = question(1L, "입고 질문", "언제 이 상품이 입고가 될까요");
+	private final Question origin = question(2L, "상품 원산지 문의", "이 상품의 원산지가 어디인가요");
+
+	private static Question question(long id, String subject, String content) {
+		return Question.builder()
+			.id(id)
+			.subject(subject)
+			.content(content)
+			.build();
+	}
+
+	@BeforeEach
+	void setUp() {
+		questionService = new QuestionService(questionRepository, itemService, questionSearchIndex);
+		ReflectionTestUtils.setField(questionService, "searchMaxSize", 50);
+	}
+
+	@Test
+	@DisplayName("검색 색인 구성 - 전체 질문을 페이지 단위로 색인하고 이전 색인은 지운다")
+	void buildSearchIndex() {
+		questionSearchIndex.index(question(99L, "삭제된 질문", "원산지"));
+		when(questionRepository.findAll(any(Pageable.class)))
+			.thenAnswer(invocation -> new PageImpl<>(List.of(stock, origin), invocation.getArgument(0), 2));
+
+		questionService.buildSearchIndex();
+
+		assertThat(questionSearchIndex.size()).isEqualTo(2);
+		assertThat(questionSearchIndex.search("원산지", 10)).containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("검색 - DB 조회 순서와 관계없이 관련도 순으로 반환한다")
+	void searchQuestions_relevanceOrder() {
+		questionSearchIndex.index(stock);
+		questionSearchIndex.index(origin);
+		when(questionRepository.findByIdIn(List.of(2L, 1L))).thenReturn(List.of(stock, origin));
+
+		List<Question> questions = questionService.searchQuestions("상품", 10);
+
+		assertThat(questions).extracting(Question::getId).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("검색 - 자모 검색어도 음절로 합쳐 찾고, 색인에만 남은 질문은 제외한다")
+	void searchQuestions_jamo() {
+		questionSearchIndex.index(stock);
+		questionSearchIndex.index(origin);
+		when(questionRepository.findByIdIn(List.of(2L))).thenReturn(List.of());
+
+		assertThat(questionService.searchQuestions("ㅇㅝㄴㅅㅏㄴㅈㅣ", 10)).isEmpty();
+		verify(questionRepository).findByIdIn(List.of(2L));
+	}
+
+	@Test
+	@DisplayName("검색 - 일치하는 질문이 없으면 DB를 조회하지 않는다")
+	void searchQuestions_noMatch() {
+		questionSearchIndex.index(stock);
+
+		assertThat(questionService.searchQuestions("배송", 10)).isEmpty();
+		verifyNoInteractions(questionRepository);
+	}
+}
@@ -0,0 +1,136 @@
+package com.coffeebean.domain.review.review.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.coffeebean.global.image.ImageVariant;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class FileControllerTest {
+
+	private static final String CONTENT = "0123456789abcdefghij";
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Value("${file.upload-dir}")
+	private String uploadDir;
+
+	private Path file;
+	private String fileName;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		fileName = UUID.randomUUID() + ".txt";
+		file = Files.writeString(Paths.get(uploadDir).resolve(fileName), CONTENT);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	private String etag() throws Exception {
+		return mvc.perform(head("/files/" + fileName))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+	}
+
+	@Test
+	@DisplayName("파일 조회 - ETag와 immutable 캐시 헤더를 함께 보낸다")
+	void getFile() throws Exception {
+		MvcResult result = mvc.perform(get("/files/" + fileName))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+			.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+			.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length()))
+			.andReturn();
+
+		assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).matches("\"[0-9a-f]{64}\"");
+		assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+	}
+
+	@Test
+	@DisplayName("파일 조회 - If-None-Match가 ETag와 같으면 304")
+	void getFile_notModified() throws Exception {
+		String etag = etag();
+
+		MvcResult result = mvc.perform(get("/files/" + fileName).header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, etag))
+			.andReturn();
+
+		assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("파일 조회 - Range 요청은 206으로 해당 구간만 보낸다")
+	void getFile_range() throws Exception {
+		mvc.perform(get("/files/" + fileName).header(HttpHeaders.RANGE, "bytes=5-9"))
+			.andExpect(status().isPartialContent())
+			.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/20"))
+			.andExpect(content().string("56789"));
+
+		mvc.perform(get("/files/" + fileName).header(HttpHeaders.RANGE, "bytes=-3"))
+			.andExpect(status().isPartialContent())
+			.andExpect(content().string("hij"));
+	}
+
+	@Test
+	@DisplayName("파일 조회 - 파일 크기를 벗어난 Range는 416")
+	void getFile_rangeNotSatisfiable() throws Exception {
+		mvc.perform(get("/files/" + fileName).header(HttpHeaders.RANGE, "bytes=100-"))
+			.andExpect(status().isRequestedRangeNotSatisfiable())
+			.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+	}
+
+	@Test
+	@DisplayName("파일 조회 - If-Range가 현재 ETag와 다르면 전체를 보낸다")
+	void getFile_ifRangeMismatch() throws Exception {
+		mvc.perform(get("/files/" + fileName)
+				.header(HttpHeaders.RANGE, "bytes=5-9")
+				.header(HttpHeaders.IF_RANGE, "\"outdated\""))
+			.andExpect(status().isOk())
+			.andExpect(content().string(CONTENT));
+	}
+
+	@Test
+	@DisplayName("파일 조회 - 변환본이 아직 없으면 원본을 보내되 캐시하지 않게 한다")
+	void getFile_variantPending() throws Exception {
+		mvc.perform(get("/files/" + ImageVariant.THUMBNAIL.fileName(fileName)))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+			.andExpect(content().string(CONTENT));
+	}
+
+	@Test
+	@DisplayName("파일 조회 - 없는 파일은 404")
+	void getFile_notFound() throws Exception {
+		mvc.perform(get("/files/" + UUID.randomUUID() + ".png"))
+			.andExpect(status().isNotFound());
+	}
+}
@@ -0,0 +1,271 @@
+package com.coffeebean.domain.review.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.item.service.ItemService;
+import com.coffeebean.global.exception.FileNotFoundException;
+import com.coffeebean.global.exception.ServiceException;
+import com.coffeebean.global.image.ImagePipeline;
+import com.coffeebean.global.image.ImageVariant;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FileStorageServiceTest {
+
+	@Autowired
+	private FileStorageService fileStorageService;
+
+	@Autowired
+	private FileGarbageCollector fileGarbageCollector;
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@MockitoSpyBean
+	private ImagePipeline imagePipeline;
+
+	@Value("${file.upload-dir}")
+	private String uploadDir;
+
+	private final List<String> storedFileNames = new ArrayList<>();
+
+	// 변환은 바로 끝난 것으로 처리 (변환 요청 여부만 확인)
+	@BeforeEach
+	void setUp() {
+		doReturn(CompletableFuture.completedFuture(null)).when(imagePipeline).submit(any());
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		for (String fileName : storedFileNames) {
+			Files.deleteIfExists(Paths.get(uploadDir).resolve(fileName));
+			for (ImageVariant variant : ImageVariant.values()) {
+				Files.deleteIfExists(Paths.get(uploadDir).resolve(variant.fileName(fileName)));
+			}
+		}
+	}
+
+	private void createVariants(String fileName) throws IOException {
+		for (ImageVariant variant : ImageVariant.values()) {
+			Files.write(path(variant.fileName(fileName)), png("variant"));
+		}
+	}
+
+	private static final byte[] PNG_SIGNATURE = {(byte)0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+
+	private byte[] png(String content) {
+		byte[] body = content.getBytes(StandardCharsets.UTF_8);
+		byte[] png = Arrays.copyOf(PNG_SIGNATURE, PNG_SIGNATURE.length + body.length);
+		System.arraycopy(body, 0, png, PNG_SIGNATURE.length, body.length);
+		return png;
+	}
+
+	private String store(String originalFileName, String content) {
+		String fileName = fileStorageService.storeFile(new MockMultipartFile("image", originalFileName, "image/png",
+			png(content)));
+		storedFileNames.add(fileName);
+		return fileName;
+	}
+
+	private List<String> tempFiles() throws IOException {
+		try (var files = Files.list(Paths.get(uploadDir))) {
+			return files.map(file -> file.getFileName().toString())
+				.filter(fileName -> fileName.endsWith(".tmp"))
+				.toList();
+		}
+	}
+
+	private Path path(String fileName) {
+		return Paths.get(uploadDir).resolve(fileName);
+	}
+
+	@Test
+	@DisplayName("파일 저장 - 내용의 SHA-256을 파일명으로, 실제 이미지 형식을 확장자로 쓴다")
+	void storeFile_contentAddressed() throws Exception {
+		String content = UUID.randomUUID().toString();
+
+		String fileName = store("photo.JPEG", content);
+
+		String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(png(content)));
+		assertThat(fileName).isEqualTo(hash + ".png");
+		assertThat(Files.readAllBytes(path(fileName))).isEqualTo(png(content));
+	}
+
+	@Test
+	@DisplayName("파일 저장 - 같은 내용은 파일 하나를 공유하고 임시 파일을 남기지 않는다")
+	void storeFile_deduplicated() throws IOException {
+		String content = UUID.randomUUID().toString();
+
+		String first = store("a.png", content);
+		String second = store("b.png", content);
+
+		assertThat(second).isEqualTo(first);
+		assertThat(tempFiles()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("파일 저장 - 재사용하는 파일에 변환본이 없으면 다시 변환을 요청한다")
+	void storeFile_deduplicatedResubmitsMissingVariants() throws IOException {
+		String content = UUID.randomUUID().toString();
+		String fileName = store("a.png", content);
+		createVariants(fileName);
+
+		store("b.png", content);
+		verify(imagePipeline, times(1)).submit(path(fileName));
+
+		Files.delete(path(ImageVariant.MEDIUM.fileName(fileName)));
+		store("c.png", content);
+		verify(imagePipeline, times(2)).submit(path(fileName));
+	}
+
+	@Test
+	@DisplayName("파일 저장 - 이미지가 아니면 400, 임시 파일을 남기지 않는다")
+	void storeFile_notImage() throws IOException {
+		MockMultipartFile file = new MockMultipartFile("image", "a.png", "image/png",
+			"<html>not an image</html>".getBytes(StandardCharsets.UTF_8));
+
+		assertThatThrownBy(() -> fileStorageService.storeFile(file))
+			.isInstanceOf(ServiceException.class)
+			.extracting("code").isEqualTo("400-5");
+		assertThat(tempFiles()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("파일 저장 - 요청 크기가 최대 크기를 넘으면 읽지 않고 413")
+	void storeFile_declaredTooLarge() {
+		ByteArrayInputStream input = new ByteArrayInputStream(png("small"));
+
+		assertThatThrownBy(() -> fileStorageService.storeFile(input, 11L * 1024 * 1024))
+			.isInstanceOf(ServiceException.class)
+			.extracting("code").isEqualTo("413-1");
+		assertThat(input.available()).isEqualTo(png("small").length);
+	}
+
+	@Test
+	@DisplayName("파일 참조 - 저장된 원본 파일명이면 수정 시각을 갱신한다")
+	void useStoredFile_touches() throws IOException {
+		String fileName = store("a.png", UUID.randomUUID().toString());
+		Files.setLastModifiedTime(path(fileName), FileTime.from(Instant.now().minusSeconds(3600)));
+
+		assertThat(fileStorageService.useStoredFile(fileName)).isEqualTo(fileName);
+
+		assertThat(Files.getLastModifiedTime(path(fileName)).toInstant())
+			.isAfter(Instant.now().minusSeconds(60));
+	}
+
+	@Test
+	@DisplayName("파일 참조 - 변환본, 임시 파일, 경로는 400")
+	void useStoredFile_notContentAddressed() throws IOException {
+		String fileName = store("a.png", UUID.randomUUID().toString());
+		String temp = ".upload-%s.tmp".formatted(UUID.randomUUID());
+		Files.write(path(temp), png("temp"));
+		storedFileNames.add(temp);
+
+		for (String invalid : List.of(fileName + ".thumb.jpg", fileName + ".medium.jpg", temp,
+			"../" + fileName, fileName.toUpperCase())) {
+			assertThatThrownBy(() -> fileStorageService.useStoredFile(invalid))
+				.isInstanceOf(ServiceException.class)
+				.extracting("code").isEqualTo("400-6");
+		}
+	}
+
+	@Test
+	@DisplayName("파일 참조 - 없는 파일이면 예외")
+	void useStoredFile_notFound() {
+		String fileName = "0".repeat(64) + ".png";
+
+		assertThatThrownBy(() -> fileStorageService.useStoredFile(fileName))
+			.isInstanceOf(FileNotFoundException.class);
+		assertThat(path(fileName)).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("파일 정리 - 상품이 참조하지 않는 파일만 지운다")
+	void sweep_deletesUnreferenced() {
+		String referenced = store("a.png", UUID.randomUUID().toString());
+		String unreferenced = store("b.png", UUID.randomUUID().toString());
+		itemService.addItem("상품", 1000, 10, "설명", referenced);
+
+		fileGarbageCollector.sweep(Instant.now().plusSeconds(1));
+
+		assertThat(path(referenced)).exists();
+		assertThat(path(unreferenced)).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("파일 정리 - 상품 이미지 URL의 주소와 관계없이 저장된 파일명으로 참조를 확인한다")
+	void sweep_matchesStoredFileName() {
+		String fileName = store("a.png", UUID.randomUUID().toString());
+		itemRepository.save(Item.builder()
+			.name("상품")
+			.price(1000)
+			.stockQuantity(10)
+			.imageUrl("https://cdn.example.com/files/" + fileName)
+			.imageFileName(fileName)
+			.build());
+
+		fileGarbageCollector.sweep(Instant.now().plusSeconds(1));
+
+		assertThat(path(fileName)).exists();
+	}
+
+	@Test
+	@DisplayName("파일 정리 - 원본을 지우면 변환본도 함께 지운다")
+	void sweep_deletesVariants() throws IOException {
+		String fileName = store("a.png", UUID.randomUUID().toString());
+		createVariants(fileName);
+
+		fileGarbageCollector.sweep(Instant.now().plusSeconds(1));
+
+		assertThat(path(fileName)).doesNotExist();
+		for (ImageVariant variant : ImageVariant.values()) {
+			assertThat(path(variant.fileName(fileName))).doesNotExist();
+		}
+	}
+
+	@Test
+	@DisplayName("파일 정리 - 유예 기간 안에 저장된 파일은 참조가 없어도 지우지 않는다")
+	void sweep_keepsRecent() {
+		String fileName = store("a.png", UUID.randomUUID().toString());
+
+		fileGarbageCollector.sweep(Instant.now().minusSeconds(60));
+
+		assertThat(path(fileName)).exists();
+	}
+}
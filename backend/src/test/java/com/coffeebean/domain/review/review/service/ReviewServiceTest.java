@@ -0,0 +1,103 @@
+package com.coffeebean.domain.review.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.review.review.ReviewSort;
+import com.coffeebean.domain.review.review.entity.Review;
+import com.coffeebean.domain.review.review.entity.ReviewDetailNotImageDto;
+import com.coffeebean.domain.review.review.entity.ReviewPageDto;
+import com.coffeebean.domain.review.review.respository.ReviewRepository;
+import com.coffeebean.global.exception.ServiceException;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewServiceTest {
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	private Item item;
+	private List<Long> reviewIds;
+
+	@BeforeEach
+	void setUp() {
+		item = saveItem("리뷰 목록 테스트");
+		// 작성 순서: 별점 3, 5, 1, 5, 4
+		reviewIds = List.of(3, 5, 1, 5, 4).stream()
+			.map(rating -> saveReview(item, rating).getId())
+			.toList();
+		saveReview(saveItem("다른 상품"), 5);
+	}
+
+	@Test
+	@DisplayName("상품별 리뷰를 최신순으로 커서를 이어가며 끝까지 조회한다")
+	void getReviewsByItemId_newest() {
+		ReviewPageDto first = reviewService.getReviewsByItemId(item.getId(), ReviewSort.NEWEST, null, 2);
+		ReviewPageDto second = reviewService.getReviewsByItemId(item.getId(), ReviewSort.NEWEST, first.getNextCursor(), 2);
+		ReviewPageDto last = reviewService.getReviewsByItemId(item.getId(), ReviewSort.NEWEST, second.getNextCursor(), 2);
+
+		assertThat(ids(first)).containsExactly(reviewIds.get(4), reviewIds.get(3));
+		assertThat(ids(second)).containsExactly(reviewIds.get(2), reviewIds.get(1));
+		assertThat(ids(last)).containsExactly(reviewIds.get(0));
+		assertThat(last.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("별점 높은 순은 같은 별점이면 최신 리뷰가 먼저 나온다")
+	void getReviewsByItemId_rating() {
+		ReviewPageDto first = reviewService.getReviewsByItemId(item.getId(), ReviewSort.RATING, null, 3);
+		ReviewPageDto last = reviewService.getReviewsByItemId(item.getId(), ReviewSort.RATING, first.getNextCursor(), 3);
+
+		assertThat(ids(first)).containsExactly(reviewIds.get(3), reviewIds.get(1), reviewIds.get(4));
+		assertThat(ids(last)).containsExactly(reviewIds.get(0), reviewIds.get(2));
+		assertThat(last.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("잘못된 커서로 조회하면 예외가 발생한다")
+	void getReviewsByItemId_invalidCursor() {
+		assertThatThrownBy(() -> reviewService.getReviewsByItemId(item.getId(), ReviewSort.NEWEST, "!!", 2))
+			.isInstanceOf(ServiceException.class);
+	}
+
+	private List<Long> ids(ReviewPageDto page) {
+		return page.getReviews().stream()
+			.map(ReviewDetailNotImageDto::getReviewId)
+			.toList();
+	}
+
+	private Item saveItem(String name) {
+		return itemRepository.save(Item.builder()
+			.name(name)
+			.price(10000)
+			.stockQuantity(10)
+			.build());
+	}
+
+	private Review saveReview(Item item, int rating) {
+		return reviewRepository.save(Review.builder()
+			.item(item)
+			.content("리뷰")
+			.rating(rating)
+			.build());
+	}
+}
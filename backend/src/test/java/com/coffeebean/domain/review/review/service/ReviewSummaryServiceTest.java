@@ -0,0 +1,75 @@
+package com.coffeebean.domain.review.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coffeebean.domain.item.entity.Item;
+import com.coffeebean.domain.item.repository.ItemRepository;
+import com.coffeebean.domain.review.review.entity.ReviewSummaryDto;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewSummaryServiceTest {
+
+	@Autowired
+	private ReviewSummaryService reviewSummaryService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	private Long itemId;
+
+	@BeforeEach
+	void setUp() {
+		itemId = itemRepository.save(Item.builder()
+			.name("리뷰 집계 테스트")
+			.price(10000)
+			.stockQuantity(10)
+			.build()).getId();
+	}
+
+	@Test
+	@DisplayName("리뷰가 없는 상품은 빈 요약을 반환한다")
+	void getSummary_empty() {
+		ReviewSummaryDto summary = reviewSummaryService.getSummary(itemId);
+
+		assertThat(summary.getReviewCount()).isZero();
+		assertThat(summary.getAverageRating()).isZero();
+		assertThat(summary.getRatingCounts()).containsOnlyKeys(1, 2, 3, 4, 5);
+	}
+
+	@Test
+	@DisplayName("리뷰 작성, 별점 수정, 삭제가 집계에 증감으로 반영된다")
+	void applyDelta() {
+		reviewSummaryService.addRating(itemId, 5);
+		reviewSummaryService.addRating(itemId, 4);
+		reviewSummaryService.addRating(itemId, 2);
+
+		reviewSummaryService.changeRating(itemId, 2, 3);
+		reviewSummaryService.removeRating(itemId, 5);
+
+		ReviewSummaryDto summary = reviewSummaryService.getSummary(itemId);
+		assertThat(summary.getReviewCount()).isEqualTo(2);
+		assertThat(summary.getAverageRating()).isEqualTo(3.5);
+		assertThat(summary.getRatingCounts())
+			.containsEntry(2, 0L)
+			.containsEntry(3, 1L)
+			.containsEntry(4, 1L)
+			.containsEntry(5, 0L);
+	}
+
+	@Test
+	@DisplayName("범위를 벗어난 별점은 집계하지 않는다")
+	void addRating_invalid() {
+		assertThatThrownBy(() -> reviewSummaryService.addRating(itemId, 6))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
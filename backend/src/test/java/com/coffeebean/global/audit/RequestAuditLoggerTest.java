@@ -0,0 +1,69 @@
+package com.coffeebean.global.audit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.coffeebean.global.util.JwtPrincipal;
+
+import jakarta.servlet.http.Cookie;
+
+class RequestAuditLoggerTest {
+
+	@Test
+	@DisplayName("샘플링 비율이 0이면 남기지 않고 1이면 모두 남긴다")
+	void sampleRate() {
+		RequestAuditLogger off = new RequestAuditLogger(0, 50);
+		RequestAuditLogger all = new RequestAuditLogger(1, 50);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(off.isSampled()).isFalse();
+			assertThat(all.isSampled()).isTrue();
+		}
+	}
+
+	@Test
+	@DisplayName("샘플링 비율만큼만 남긴다")
+	void partialSampleRate() {
+		RequestAuditLogger logger = new RequestAuditLogger(0.1, 50);
+
+		int sampled = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (logger.isSampled()) {
+				sampled++;
+			}
+		}
+
+		assertThat(sampled).isBetween(9_000, 11_000);
+	}
+
+	@Test
+	@DisplayName("회원은 ID, 관리자는 권한만 남기고 이메일은 남기지 않는다")
+	void user() {
+		Instant expiresAt = Instant.now().plusSeconds(60);
+
+		assertThat(RequestAuditLogger.user(Optional.of(new JwtPrincipal(7L, "user@test.com", null, expiresAt))))
+			.isEqualTo("7");
+		assertThat(RequestAuditLogger.user(Optional.of(new JwtPrincipal(null, "admin", "ROLE_ADMIN", expiresAt))))
+			.isEqualTo("ROLE_ADMIN");
+		assertThat(RequestAuditLogger.user(Optional.empty())).isEqualTo("anonymous");
+	}
+
+	@Test
+	@DisplayName("토큰 원문 대신 상태만 남긴다")
+	void tokenState() {
+		MockHttpServletRequest noToken = new MockHttpServletRequest();
+		MockHttpServletRequest invalidToken = new MockHttpServletRequest();
+		invalidToken.setCookies(new Cookie("token", "secret-token-value"));
+		Optional<JwtPrincipal> principal = Optional.of(new JwtPrincipal(1L, "user@test.com", null, null));
+
+		assertThat(RequestAuditLogger.tokenState(noToken, Optional.empty())).isEqualTo("none");
+		assertThat(RequestAuditLogger.tokenState(invalidToken, Optional.empty())).isEqualTo("invalid");
+		assertThat(RequestAuditLogger.tokenState(invalidToken, principal)).isEqualTo("valid");
+	}
+}
@@ -0,0 +1,91 @@
+package com.coffeebean.global.email;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.coffeebean.domain.user.user.service.MailService;
+
+import jakarta.mail.internet.MimeMessage;
+
+class MailDispatcherTest {
+
+	private MailDispatcher mailDispatcher;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		mailDispatcher.shutdown();
+	}
+
+	@Test
+	@DisplayName("일시적인 SMTP 오류는 재시도 후 발송된다")
+	void dispatch_retry() throws Exception {
+		FakeJavaMailSender mailSender = new FakeJavaMailSender(1);
+		mailDispatcher = new MailDispatcher(new MailService(mailSender), 2, 10, 3, 10);
+
+		mailDispatcher.dispatch("user@exam.com", "배송이 시작되었습니다.", "주문번호[1]의 상품의 배송이 시작되었습니다.")
+			.get(5, TimeUnit.SECONDS);
+
+		assertThat(mailSender.attempts.get()).isEqualTo(2);
+		assertThat(mailSender.sent).hasSize(1);
+		assertThat(mailSender.sent.getFirst().getSubject()).isEqualTo("배송이 시작되었습니다.");
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수까지 실패하면 예외로 완료된다")
+	void dispatch_fail() {
+		FakeJavaMailSender mailSender = new FakeJavaMailSender(Integer.MAX_VALUE);
+		mailDispatcher = new MailDispatcher(new MailService(mailSender), 2, 10, 3, 10);
+
+		CompletableFuture<Void> result = mailDispatcher.dispatch("user@exam.com", "제목", "내용");
+
+		assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+		assertThat(mailSender.attempts.get()).isEqualTo(3);
+		assertThat(mailSender.sent).isEmpty();
+	}
+
+	@Test
+	@DisplayName("대기열의 남은 자리는 발송 중인 메일 수만큼 줄어든다")
+	void availableCapacity() throws Exception {
+		FakeJavaMailSender mailSender = new FakeJavaMailSender(0);
+		mailDispatcher = new MailDispatcher(new MailService(mailSender), 1, 10, 3, 10);
+		assertThat(mailDispatcher.availableCapacity()).isEqualTo(10);
+
+		CompletableFuture<Void> result = mailDispatcher.dispatch("user@exam.com", "제목", "내용");
+		assertThat(mailDispatcher.availableCapacity()).isBetween(9, 10);
+
+		result.get(5, TimeUnit.SECONDS);
+		assertThat(mailDispatcher.availableCapacity()).isEqualTo(10);
+	}
+
+	// SMTP 서버 없이 발송 결과를 기록하는 가짜 JavaMailSender (처음 failCount번은 실패)
+	static class FakeJavaMailSender extends JavaMailSenderImpl {
+
+		private final int failCount;
+		private final AtomicInteger attempts = new AtomicInteger();
+		private final List<MimeMessage> sent = new CopyOnWriteArrayList<>();
+
+		FakeJavaMailSender(int failCount) {
+			this.failCount = failCount;
+		}
+
+		@Override
+		protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+			if (attempts.incrementAndGet() <= failCount) {
+				throw new MailSendException("SMTP 서버와 연결할 수 없습니다.");
+			}
+			sent.addAll(List.of(mimeMessages));
+		}
+	}
+}
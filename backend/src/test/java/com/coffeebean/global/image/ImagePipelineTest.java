@@ -0,0 +1,117 @@
+package com.coffeebean.global.image;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImagePipelineTest {
+
+	private final ImagePipeline imagePipeline = new ImagePipeline(1, 10, 0.8f, 4_000_000);
+
+	@TempDir
+	Path dir;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		imagePipeline.shutdown();
+	}
+
+	private Path image(String fileName, int width, int height, String format) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, 0x80000000 | (x * y));
+			}
+		}
+		Path path = dir.resolve(fileName);
+		ImageIO.write(image, format, path.toFile());
+		return path;
+	}
+
+	private BufferedImage variant(Path original, ImageVariant variant) throws IOException {
+		return ImageIO.read(dir.resolve(variant.fileName(original.getFileName().toString())).toFile());
+	}
+
+	@Test
+	@DisplayName("원본 비율을 유지한 썸네일과 압축본을 JPEG로 만든다")
+	void submit_createsVariants() throws IOException {
+		Path original = image("a.png", 2000, 1000, "png");
+
+		imagePipeline.submit(original).join();
+
+		BufferedImage thumbnail = variant(original, ImageVariant.THUMBNAIL);
+		BufferedImage medium = variant(original, ImageVariant.MEDIUM);
+		assertThat(thumbnail.getWidth()).isEqualTo(ImageVariant.THUMBNAIL.getMaxWidth());
+		assertThat(thumbnail.getHeight()).isEqualTo(ImageVariant.THUMBNAIL.getMaxWidth() / 2);
+		assertThat(medium.getWidth()).isEqualTo(ImageVariant.MEDIUM.getMaxWidth());
+		assertThat(Files.size(dir.resolve(ImageVariant.THUMBNAIL.fileName("a.png"))))
+			.isLessThan(Files.size(original));
+	}
+
+	@Test
+	@DisplayName("원본보다 크게 늘리지 않는다")
+	void submit_doesNotUpscale() throws IOException {
+		Path original = image("small.jpg", 100, 50, "png");
+
+		imagePipeline.submit(original).join();
+
+		assertThat(variant(original, ImageVariant.MEDIUM).getWidth()).isEqualTo(100);
+	}
+
+	@Test
+	@DisplayName("세로로 긴 이미지도 비율을 유지해 변환한다")
+	void submit_tallImage() throws IOException {
+		Path original = image("tall.png", 400, 8000, "png");
+
+		imagePipeline.submit(original).join();
+
+		BufferedImage thumbnail = variant(original, ImageVariant.THUMBNAIL);
+		assertThat(thumbnail.getHeight()).isGreaterThan(thumbnail.getWidth() * 15);
+		assertThat(thumbnail.getHeight()).isLessThanOrEqualTo(ImageVariant.largestWidth() * 4);
+	}
+
+	@Test
+	@DisplayName("해상도 한도를 넘는 이미지는 변환본을 만들지 않는다")
+	void submit_overPixelBudget() throws IOException {
+		Path original = image("huge.png", 2000, 2001, "png");
+
+		imagePipeline.submit(original).join();
+
+		try (var files = Files.list(dir)) {
+			assertThat(files).containsExactly(original);
+		}
+	}
+
+	@Test
+	@DisplayName("이미지가 아닌 파일은 변환본을 만들지 않는다")
+	void submit_notImage() throws IOException {
+		Path original = Files.writeString(dir.resolve("a.txt"), "not an image");
+
+		imagePipeline.submit(original).join();
+
+		try (var files = Files.list(dir)) {
+			assertThat(files).containsExactly(original);
+		}
+	}
+
+	@Test
+	@DisplayName("업로드 파일 URL만 변환본 URL로 바꾸고, 변환본 파일명으로 원본을 찾는다")
+	void variantUrl() {
+		assertThat(ImageVariant.THUMBNAIL.url("http://localhost:8080/files/a.png"))
+			.isEqualTo("http://localhost:8080/files/a.png.thumb.jpg");
+		assertThat(ImageVariant.THUMBNAIL.url("http://localhost:8080/1.webp")).isEqualTo("http://localhost:8080/1.webp");
+		assertThat(ImageVariant.THUMBNAIL.url(null)).isNull();
+		assertThat(ImageVariant.originalOf("a.png.medium.jpg")).contains("a.png");
+		assertThat(ImageVariant.originalOf("a.png")).isEmpty();
+	}
+}
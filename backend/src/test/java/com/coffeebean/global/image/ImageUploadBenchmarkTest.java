@@ -0,0 +1,173 @@
+package com.coffeebean.global.image;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 동시 10MB 업로드 처리 방식별 힙/디스크 사용량 비교
+ * - 힙 버퍼링: 요청 본문 전체를 byte[]로 받은 뒤 저장 (MultipartFile.getBytes, 메모리 multipart)
+ * - 임시 파일 + 복사: multipart 임시 파일에 받은 뒤 저장 위치로 다시 복사 (기존 storeFile)
+ * - 스트리밍: ImageUploadWriter로 요청 본문을 저장 위치에 바로 기록
+ * 오래 걸리므로 BENCHMARK=true 일 때만 실행한다. (업로드 수: BENCHMARK_UPLOADS, 동시 요청 수: BENCHMARK_CONCURRENCY)
+ * 예) BENCHMARK=true ./gradlew test --tests '*ImageUploadBenchmarkTest' -i
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ImageUploadBenchmarkTest {
+
+	private static final int UPLOAD_SIZE = 10 * 1024 * 1024;
+	private static final byte[] BLOCK = new byte[64 * 1024];
+
+	static {
+		new SplittableRandom(42).nextBytes(BLOCK);
+		BLOCK[0] = (byte)0xFF;
+		BLOCK[1] = (byte)0xD8;
+		BLOCK[2] = (byte)0xFF;
+	}
+
+	@TempDir
+	Path dir;
+
+	private interface Upload {
+		// 저장 후 디스크에 쓴 바이트 수 반환
+		long store(InputStream input) throws Exception;
+	}
+
+	private record Measurement(String name, long millis, long allocatedMb, long peakHeapMb, long diskMb) {
+	}
+
+	@Test
+	@DisplayName("동시 10MB 업로드 - 힙 버퍼링 / 임시 파일 + 복사 / 스트리밍 비교")
+	void benchmark() throws Exception {
+		int uploads = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_UPLOADS", "64"));
+		int concurrency = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_CONCURRENCY", "16"));
+		ImageUploadWriter writer = new ImageUploadWriter(DataSize.ofMegabytes(20), DataSize.ofKilobytes(64), concurrency);
+
+		Upload heapBuffered = input -> {
+			byte[] body = input.readAllBytes();
+			MessageDigest.getInstance("SHA-256").digest(body);
+			Path target = dir.resolve(UUID.randomUUID().toString());
+			Files.write(target, body);
+			Files.delete(target);
+			return body.length;
+		};
+		Upload tempFileCopy = input -> {
+			Path temp = dir.resolve(UUID.randomUUID() + ".tmp");
+			long written = Files.copy(input, temp);
+			Path target = dir.resolve(UUID.randomUUID().toString());
+			try (InputStream copy = new DigestInputStream(Files.newInputStream(temp), MessageDigest.getInstance("SHA-256"))) {
+				written += Files.copy(copy, target);
+			}
+			Files.delete(temp);
+			Files.delete(target);
+			return written;
+		};
+		Upload streaming = input -> {
+			Path target = dir.resolve(UUID.randomUUID().toString());
+			long written = writer.write(input, target).size();
+			Files.delete(target);
+			return written;
+		};
+
+		// JIT 워밍업
+		for (Upload upload : List.of(heapBuffered, tempFileCopy, streaming)) {
+			run(upload, "warmup", concurrency, concurrency);
+		}
+
+		List<Measurement> measurements = List.of(
+			run(heapBuffered, "힙 버퍼링", uploads, concurrency),
+			run(tempFileCopy, "임시 파일 + 복사", uploads, concurrency),
+			run(streaming, "스트리밍", uploads, concurrency)
+		);
+
+		System.out.printf("10MB x %d건, 동시 %d건%n", uploads, concurrency);
+		for (Measurement m : measurements) {
+			System.out.printf("%-12s %,7d ms  할당 %,7d MB  최대 힙 %,6d MB  디스크 쓰기 %,7d MB%n",
+				m.name(), m.millis(), m.allocatedMb(), m.peakHeapMb(), m.diskMb());
+		}
+		assertThat(measurements.get(2).allocatedMb()).isLessThan(measurements.get(0).allocatedMb());
+		assertThat(measurements.get(2).diskMb()).isLessThan(measurements.get(1).diskMb());
+	}
+
+	private Measurement run(Upload upload, String name, int uploads, int concurrency) throws Exception {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+			.filter(pool -> pool.getType() == MemoryType.HEAP)
+			.toList();
+		System.gc();
+		heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+		AtomicLong allocated = new AtomicLong();
+		AtomicLong written = new AtomicLong();
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		long start = System.nanoTime();
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < uploads; i++) {
+				futures.add(executor.submit(() -> {
+					long before = threads.getCurrentThreadAllocatedBytes();
+					written.addAndGet(upload.store(new SyntheticUpload(UPLOAD_SIZE)));
+					allocated.addAndGet(threads.getCurrentThreadAllocatedBytes() - before);
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		long millis = (System.nanoTime() - start) / 1_000_000;
+		long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+		return new Measurement(name, millis, allocated.get() >> 20, peakHeap >> 20, written.get() >> 20);
+	}
+
+	// 요청 본문 대신 쓰는 입력 (미리 만든 블록을 반복해서 size 바이트 제공, 힙을 거의 쓰지 않음)
+	private static class SyntheticUpload extends InputStream {
+
+		private final long size;
+		private long position;
+
+		SyntheticUpload(long size) {
+			this.size = size;
+		}
+
+		@Override
+		public int read() {
+			return position < size ? BLOCK[(int)(position++ % BLOCK.length)] & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (position >= size) {
+				return -1;
+			}
+			int offset = (int)(position % BLOCK.length);
+			int count = (int)Math.min(Math.min(len, BLOCK.length - offset), size - position);
+			System.arraycopy(BLOCK, offset, b, off, count);
+			position += count;
+			return count;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.coffeebean.global.image;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.coffeebean.global.exception.ServiceException;
+
+class ImageUploadWriterTest {
+
+	private static final byte[] JPEG_SIGNATURE = {(byte)0xFF, (byte)0xD8, (byte)0xFF, (byte)0xE0};
+
+	private final ImageUploadWriter writer = new ImageUploadWriter(DataSize.ofKilobytes(256), DataSize.ofKilobytes(8), 2);
+
+	@TempDir
+	Path dir;
+
+	private byte[] jpeg(int size) {
+		byte[] bytes = new byte[size];
+		new SplittableRandom(size).nextBytes(bytes);
+		System.arraycopy(JPEG_SIGNATURE, 0, bytes, 0, JPEG_SIGNATURE.length);
+		return bytes;
+	}
+
+	// 한 번에 1바이트씩만 읽히는 스트림 (네트워크에서 조금씩 도착하는 경우)
+	private InputStream trickle(byte[] bytes) {
+		return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return super.read(b, off, Math.min(len, 1));
+			}
+		};
+	}
+
+	@Test
+	@DisplayName("여러 버퍼에 걸친 업로드를 그대로 저장하고 같은 흐름에서 SHA-256을 계산한다")
+	void write() throws Exception {
+		byte[] bytes = jpeg(100_000);
+		Path target = dir.resolve("a");
+
+		ImageUploadWriter.Result result = writer.write(new ByteArrayInputStream(bytes), target);
+
+		assertThat(result.type()).isEqualTo(ImageType.JPEG);
+		assertThat(result.size()).isEqualTo(bytes.length);
+		assertThat(result.hash()).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes)));
+		assertThat(Files.readAllBytes(target)).isEqualTo(bytes);
+	}
+
+	@Test
+	@DisplayName("시그니처가 조금씩 도착해도 모아서 판별한다")
+	void write_trickle() throws IOException {
+		byte[] bytes = jpeg(1_000);
+		Path target = dir.resolve("a");
+
+		writer.write(trickle(bytes), target);
+
+		assertThat(Files.readAllBytes(target)).isEqualTo(bytes);
+	}
+
+	@Test
+	@DisplayName("이미지가 아니면 첫 조각에서 중단하고 파일을 지운다")
+	void write_notImage() {
+		byte[] bytes = jpeg(100_000);
+		bytes[0] = 'x';
+		ByteArrayInputStream input = new ByteArrayInputStream(bytes);
+		Path target = dir.resolve("a");
+
+		assertThatThrownBy(() -> writer.write(input, target))
+			.isInstanceOf(ServiceException.class)
+			.extracting("code").isEqualTo("400-5");
+		assertThat(input.available()).isGreaterThan(bytes.length - 10_000); // 나머지는 읽지 않음
+		assertThat(target).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘는 순간 중단하고 파일을 지운다")
+	void write_tooLarge() {
+		byte[] bytes = jpeg(1_000_000);
+		ByteArrayInputStream input = new ByteArrayInputStream(bytes);
+		Path target = dir.resolve("a");
+
+		assertThatThrownBy(() -> writer.write(input, target))
+			.isInstanceOf(ServiceException.class)
+			.extracting("code").isEqualTo("413-1");
+		assertThat(input.available()).isGreaterThan(bytes.length - 300_000);
+		assertThat(target).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("시그니처보다 짧은 파일은 거절한다")
+	void write_tooShort() {
+		assertThatThrownBy(() -> writer.write(new ByteArrayInputStream(Arrays.copyOf(JPEG_SIGNATURE, 2)), dir.resolve("a")))
+			.isInstanceOf(ServiceException.class)
+			.extracting("code").isEqualTo("400-5");
+	}
+
+	@Test
+	@DisplayName("WebP는 RIFF 헤더의 크기 필드와 무관하게 판별한다")
+	void detect_webp() {
+		byte[] header = {'R', 'I', 'F', 'F', 1, 2, 3, 4, 'W', 'E', 'B', 'P'};
+
+		assertThat(ImageType.detect(ByteBuffer.wrap(header), header.length)).contains(ImageType.WEBP);
+	}
+}
@@ -0,0 +1,128 @@
+package com.coffeebean.global.lock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SchedulerLockServiceTest {
+
+	@Autowired
+	private SchedulerLockRepository schedulerLockRepository;
+
+	// 같은 DB를 사용하는 두 노드
+	private SchedulerLockService node1;
+	private SchedulerLockService node2;
+
+	private static final String LOCK_NAME = "test-job";
+
+	@BeforeEach
+	void setUp() {
+		node1 = new SchedulerLockService(schedulerLockRepository, 300);
+		node2 = new SchedulerLockService(schedulerLockRepository, 300);
+	}
+
+	@AfterEach
+	void tearDown() {
+		node1.shutdown();
+		node2.shutdown();
+		schedulerLockRepository.deleteById(LOCK_NAME);
+	}
+
+	@Test
+	@DisplayName("잠금은 한 노드만 획득하고, 해제 후에는 다른 노드가 획득")
+	void acquireAndRelease() {
+		assertThat(node1.tryAcquire(LOCK_NAME)).isTrue();
+		assertThat(node2.tryAcquire(LOCK_NAME)).isFalse();
+
+		node1.release(LOCK_NAME);
+
+		assertThat(node2.tryAcquire(LOCK_NAME)).isTrue();
+		assertThat(schedulerLockRepository.findById(LOCK_NAME).get().getOwner()).isEqualTo(node2.getOwner());
+	}
+
+	@Test
+	@DisplayName("리더가 잠금을 연장하지 못하면 lease 만료 후 다른 노드가 가져감")
+	void takeOverExpiredLease() throws InterruptedException {
+		assertThat(node1.tryAcquire(LOCK_NAME)).isTrue();
+
+		// node1이 죽어 연장이 멈춘 상황
+		Thread.sleep(400);
+
+		assertThat(node2.tryAcquire(LOCK_NAME)).isTrue();
+		assertThat(node1.renew(LOCK_NAME)).isFalse();
+	}
+
+	@Test
+	@DisplayName("작업 중에는 lease보다 오래 걸려도 잠금이 연장되어 다른 노드가 실행하지 못함")
+	void renewWhileRunning() {
+		AtomicBoolean node2Ran = new AtomicBoolean(true);
+
+		boolean ran = node1.runWithLock(LOCK_NAME, () -> {
+			sleep(400);
+			node2Ran.set(node2.runWithLock(LOCK_NAME, () -> {
+			}));
+			sleep(400);
+		});
+
+		assertThat(ran).isTrue();
+		assertThat(node2Ran).isFalse();
+		assertThat(node2.runWithLock(LOCK_NAME, () -> {
+		})).isTrue();
+	}
+
+	@Test
+	@DisplayName("lockAtLeastFor 동안은 작업이 끝나도 잠금을 유지해 다른 노드가 다시 실행하지 못함")
+	void lockAtLeastFor() {
+		assertThat(node1.runWithLock(LOCK_NAME, Duration.ofMillis(500), () -> {
+		})).isTrue();
+
+		assertThat(node2.runWithLock(LOCK_NAME, () -> {
+		})).isFalse();
+
+		sleep(600);
+		assertThat(node2.runWithLock(LOCK_NAME, () -> {
+		})).isTrue();
+	}
+
+	@Test
+	@DisplayName("작업 중 잠금을 잃으면 작업 스레드를 인터럽트하고, 새 소유자의 잠금은 해제하지 않음")
+	void interruptWhenLeaseLost() {
+		AtomicBoolean interrupted = new AtomicBoolean();
+
+		boolean ran = node1.runWithLock(LOCK_NAME, () -> {
+			// 다른 노드가 잠금을 가져간 상황
+			schedulerLockRepository.deleteById(LOCK_NAME);
+			assertThat(node2.tryAcquire(LOCK_NAME)).isTrue();
+			try {
+				Thread.sleep(5000);
+			} catch (InterruptedException e) {
+				interrupted.set(true);
+			}
+		});
+
+		assertThat(ran).isTrue();
+		assertThat(interrupted).isTrue();
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+		assertThat(schedulerLockRepository.findById(LOCK_NAME).orElseThrow().getOwner()).isEqualTo(node2.getOwner());
+		assertThat(node1.tryAcquire(LOCK_NAME)).isFalse();
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.coffeebean.global.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import com.coffeebean.global.search.InvertedIndex.Field;
+
+/**
+ * 합성 말뭉치(기본 100만 건) 색인/검색 벤치마크
+ * 오래 걸리므로 BENCHMARK=true 일 때만 실행한다. (문서 수: BENCHMARK_DOCS)
+ * 예) BENCHMARK=true ./gradlew test --tests '*InvertedIndexBenchmarkTest' -i
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class InvertedIndexBenchmarkTest {
+
+	private static final String[] ORIGINS = {
+		"콜롬비아", "에티오피아", "과테말라", "브라질", "케냐", "코스타리카", "파나마", "인도네시아", "르완다", "페루"
+	};
+	private static final String[] NAMES = {
+		"수프리모", "예가체프", "안티구아", "산토스", "게이샤", "만델링", "시다모", "디카페인", "블렌드", "싱글오리진"
+	};
+	private static final String[] WORDS = {
+		"원두", "고소한", "산미", "초콜릿", "견과류", "꽃향", "과일향", "묵직한", "부드러운", "로스팅",
+		"핸드드립", "에스프레소", "라떼", "콜드브루", "홀빈", "분쇄", "신선한", "달콤한", "쌉쌀한", "여운"
+	};
+	private static final String[] QUERIES = {
+		"콜롬비아 수프리모", "예가체프", "에티오피아시다모", "ㅇㅝㄴㄷㅜ", "콜롬ㅂ", "수프림", "고소한 원두", "게이샤 꽃향", "디카페인 라떼", "브라질 산토스 견과류"
+	};
+
+	@Test
+	@DisplayName("합성 말뭉치 색인 후 검색 지연 시간 측정")
+	void benchmark() {
+		int documents = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_DOCS", "1000000"));
+		SplittableRandom random = new SplittableRandom(42);
+		InvertedIndex index = new InvertedIndex();
+
+		long heapBefore = usedHeap();
+		long start = System.nanoTime();
+		for (long id = 1; id <= documents; id++) {
+			index.put(id, List.of(new Field(name(random), 3), new Field(description(random), 1)));
+		}
+		long buildMillis = (System.nanoTime() - start) / 1_000_000;
+		long heapMb = (usedHeap() - heapBefore) / (1024 * 1024);
+
+		// JIT 워밍업
+		for (int i = 0; i < 200; i++) {
+			index.search(QUERIES[i % QUERIES.length], 20);
+		}
+
+		System.out.printf("문서 %,d건 / 조각 %,d개 / 색인 %,d ms / 힙 약 %,d MB%n",
+			index.size(), index.termCount(), buildMillis, heapMb);
+		for (String query : QUERIES) {
+			long[] latencies = new long[50];
+			for (int i = 0; i < latencies.length; i++) {
+				long t = System.nanoTime();
+				List<Long> result = index.search(query, 20);
+				latencies[i] = System.nanoTime() - t;
+				assertThat(result).isNotEmpty();
+			}
+			Arrays.sort(latencies);
+			System.out.printf("%-16s p50 %8.2f ms  p99 %8.2f ms%n", query,
+				latencies[latencies.length / 2] / 1e6, latencies[latencies.length * 99 / 100] / 1e6);
+		}
+	}
+
+	private static String name(SplittableRandom random) {
+		return ORIGINS[random.nextInt(ORIGINS.length)] + " " + NAMES[random.nextInt(NAMES.length)] + " "
+			+ randomWord(random);
+	}
+
+	private static String description(SplittableRandom random) {
+		List<String> words = new ArrayList<>();
+		int count = 8 + random.nextInt(8);
+		for (int i = 0; i < count; i++) {
+			words.add(random.nextInt(4) == 0 ? randomWord(random) : WORDS[random.nextInt(WORDS.length)]);
+		}
+		return String.join(" ", words);
+	}
+
+	// 어휘 수를 늘리기 위한 임의 한글 단어 (2~4음절, 자주 쓰는 음절 범위)
+	private static String randomWord(SplittableRandom random) {
+		char[] word = new char[2 + random.nextInt(3)];
+		for (int i = 0; i < word.length; i++) {
+			word[i] = (char)(0xAC00 + random.nextInt(2000) * 5);
+		}
+		return new String(word);
+	}
+
+	private static long usedHeap() {
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,70 @@
+package com.coffeebean.global.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.coffeebean.global.search.InvertedIndex.Field;
+
+class InvertedIndexTest {
+
+	private final InvertedIndex index = new InvertedIndex();
+
+	private void put(long id, String name) {
+		index.put(id, List.of(new Field(name, 1)));
+	}
+
+	@BeforeEach
+	void setUp() {
+		put(1L, "콜롬비아 수프리모");
+		put(2L, "에티오피아 예가체프");
+		put(3L, "과테말라 안티구아 원두");
+	}
+
+	@Test
+	@DisplayName("띄어쓰기 없이 입력해도 검색된다")
+	void search_withoutSpace() {
+		assertThat(index.search("콜롬비아수프리모", 10)).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("자모로 입력한 검색어는 음절로 합쳐서 검색한다")
+	void search_compatibilityJamo() {
+		assertThat(index.search("ㅇㅝㄴㄷㅜ", 10)).containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("마지막 글자가 초성뿐이면 그 초성으로 시작하는 음절로 확장한다")
+	void search_incompleteSyllable() {
+		assertThat(index.search("콜롬ㅂ", 10)).containsExactly(1L);
+		assertThat(index.search("ㅇ", 10)).containsExactly(2L, 3L);
+	}
+
+	@Test
+	@DisplayName("마지막 음절의 받침이 다음 글자의 초성이어도 검색된다")
+	void search_jongseongAsNextChoseong() {
+		// 수프리 + ㅁ 입력 중 -> "수프림"
+		assertThat(index.search("수프림", 10)).containsExactly(1L);
+		// 예가체 + ㅍ 입력 중 -> "예가쳎"
+		assertThat(index.search("예가쳎", 10)).containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("삭제 표시 문서가 많아져 압축한 뒤에도 남은 문서만 검색된다")
+	void compact() {
+		for (long id = 100; id < 3100; id++) {
+			put(id, "블렌드 " + id);
+		}
+		for (long id = 100; id < 3000; id++) {
+			index.remove(id);
+		}
+
+		assertThat(index.size()).isEqualTo(103);
+		assertThat(index.search("블렌드", 200)).hasSize(100).allMatch(id -> id >= 3000);
+		assertThat(index.search("수프리모", 10)).containsExactly(1L);
+	}
+}
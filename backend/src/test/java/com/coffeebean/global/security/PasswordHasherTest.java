@@ -0,0 +1,143 @@
+package com.coffeebean.global.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.coffeebean.global.exception.ServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHasherTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private PasswordHasher hasher;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		release.countDown();
+		if (hasher != null) {
+			hasher.shutdown();
+		}
+	}
+
+	// release 전까지 끝나지 않는 인코더 (워커가 모두 바쁜 상황)
+	private PasswordEncoder blockingEncoder() {
+		return new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return "encoded:" + rawPassword;
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return encodedPassword.equals(encode(rawPassword));
+			}
+		};
+	}
+
+	@Test
+	@DisplayName("전용 워커에서 BCrypt로 해시하고 검증한다")
+	void encodeAndMatches() {
+		hasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 2, 8, 3000);
+
+		String encoded = hasher.encode("password");
+
+		assertThat(encoded).startsWith("$2a$04$");
+		assertThat(hasher.matches("password", encoded)).isTrue();
+		assertThat(hasher.matches("wrong", encoded)).isFalse();
+	}
+
+	@Test
+	@DisplayName("연산 시간과 대기 시간을 지표로 남긴다")
+	void metrics() {
+		hasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 1, 8, 3000);
+
+		String encoded = hasher.encode("password");
+		hasher.matches("password", encoded);
+
+		assertThat(meterRegistry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("password.hash.wait").timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isZero();
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 기다리지 않고 503으로 거절한다")
+	void rejectWhenQueueFull() {
+		hasher = new PasswordHasher(blockingEncoder(), meterRegistry, 1, 1, 10_000);
+
+		// 워커 1개 실행 중 + 대기열 1개
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+		await(() -> meterRegistry.get("password.hash.wait").timer().count() == 1);
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("b"));
+		await(() -> meterRegistry.get("password.hash.queue").gauge().value() == 1);
+
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> hasher.encode("c"))
+			.isInstanceOf(ServiceException.class)
+			.satisfies(e -> assertThat(((ServiceException)e).getCode()).isEqualTo("503-1"));
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+		assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+		release.countDown();
+		assertThat(running.join()).isEqualTo("encoded:a");
+		assertThat(queued.join()).isEqualTo("encoded:b");
+	}
+
+	@Test
+	@DisplayName("대기 시간이 초과되면 대기 중인 작업을 버리고 503으로 응답한다")
+	void timeout_queued() {
+		hasher = new PasswordHasher(blockingEncoder(), meterRegistry, 1, 1, 100);
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+		await(() -> meterRegistry.get("password.hash.wait").timer().count() == 1);
+
+		assertThatThrownBy(() -> hasher.encode("b"))
+			.isInstanceOf(ServiceException.class)
+			.satisfies(e -> assertThat(((ServiceException)e).getStatusCode()).isEqualTo(503));
+		assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+		// 버려진 작업은 워커가 비어도 실행되지 않음
+		release.countDown();
+		assertThat(running.join()).isEqualTo("encoded:a");
+		assertThat(meterRegistry.get("password.hash.wait").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("이미 실행 중인 작업은 시간이 초과되어도 끝까지 기다려 결과를 돌려준다")
+	void timeout_running() {
+		hasher = new PasswordHasher(blockingEncoder(), meterRegistry, 1, 1, 100);
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+		await(() -> meterRegistry.get("password.hash.wait").timer().count() == 1);
+
+		long timeoutPassedAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+		await(() -> System.nanoTime() > timeoutPassedAt);
+		release.countDown();
+
+		assertThat(running.join()).isEqualTo("encoded:a");
+		assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isZero();
+	}
+
+	private void await(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.onSpinWait();
+		}
+	}
+}
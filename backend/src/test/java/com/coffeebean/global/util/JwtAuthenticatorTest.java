@@ -0,0 +1,109 @@
+package com.coffeebean.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import jakarta.servlet.http.Cookie;
+
+class JwtAuthenticatorTest {
+
+	private final JwtAuthenticator authenticator = new JwtAuthenticator(100, 600);
+
+	private String userToken() {
+		return JwtUtil.createToken(Map.of("email", "user@test.com", "id", 1L));
+	}
+
+	private String adminToken() {
+		return JwtUtil.createToken(Map.of("email", "admin", "role", "ROLE_ADMIN"));
+	}
+
+	@Test
+	@DisplayName("회원 토큰에서 회원 ID와 이메일을 꺼낸다")
+	void verifyUserToken() {
+		JwtPrincipal principal = authenticator.verify(userToken()).orElseThrow();
+
+		assertThat(principal.userId()).isEqualTo(1L);
+		assertThat(principal.email()).isEqualTo("user@test.com");
+		assertThat(principal.hasRole()).isFalse();
+		assertThat(principal.isAdmin()).isFalse();
+		assertThat(principal.expiresAt()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("관리자 토큰은 관리자 권한을 가진다")
+	void verifyAdminToken() {
+		JwtPrincipal principal = authenticator.verify(adminToken()).orElseThrow();
+
+		assertThat(principal.userId()).isNull();
+		assertThat(principal.isAdmin()).isTrue();
+	}
+
+	@Test
+	@DisplayName("검증된 토큰은 캐시되어 같은 결과를 돌려준다")
+	void cacheVerifiedToken() {
+		String token = userToken();
+
+		JwtPrincipal first = authenticator.verify(token).orElseThrow();
+		JwtPrincipal second = authenticator.verify(token).orElseThrow();
+
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("캐시 유지 시간은 설정값과 토큰 만료까지 남은 시간 중 짧은 쪽이다")
+	void cacheTtlBoundedByExpiration() {
+		String token = userToken();
+
+		authenticator.verify(token);
+		assertThat(authenticator.cachedTimeToLive(token)).hasValueSatisfying(ttl ->
+			assertThat(ttl).isLessThanOrEqualTo(Duration.ofSeconds(600)));
+
+		// 설정값이 토큰 유효 기간(1일)보다 길면 토큰 만료 시각까지만 유지
+		JwtAuthenticator longTtl = new JwtAuthenticator(100, Duration.ofDays(7).toSeconds());
+		longTtl.verify(token);
+		assertThat(longTtl.cachedTimeToLive(token)).hasValueSatisfying(ttl ->
+			assertThat(ttl).isLessThanOrEqualTo(Duration.ofDays(1)));
+	}
+
+	@Test
+	@DisplayName("위조된 토큰은 거부하고 캐시하지 않는다")
+	void rejectTamperedToken() {
+		String token = userToken();
+		String tampered = token.substring(0, token.length() - 2)
+			+ (token.endsWith("AA") ? "BB" : "AA");
+
+		assertThat(authenticator.verify(tampered)).isEmpty();
+		assertThat(authenticator.cachedTimeToLive(tampered)).isEmpty();
+		assertThat(authenticator.verify("not-a-jwt")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("요청당 한 번만 검증하고 결과를 요청 속성에 저장한다")
+	void authenticateOncePerRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie("token", userToken()));
+
+		Optional<JwtPrincipal> first = authenticator.authenticate(request);
+		request.setCookies(new Cookie("token", "changed"));
+		Optional<JwtPrincipal> second = authenticator.authenticate(request);
+
+		assertThat(first).isPresent();
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("토큰 쿠키가 없으면 인증 정보가 없다")
+	void authenticateWithoutToken() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+
+		assertThat(authenticator.authenticate(request)).isEmpty();
+		assertThat(authenticator.authenticate(request)).isEmpty();
+	}
+}
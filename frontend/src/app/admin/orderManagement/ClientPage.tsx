@@ -14,6 +14,8 @@ export default function OrderListPage() {
   const [orders, setOrders] = useState<Order[]>([]);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
+  const [page, setPage] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
   const router = useRouter();
 
   useEffect(() => {
@@ -22,7 +24,7 @@ export default function OrderListPage() {
       setError(null);
       try {
         const response = await fetch(
-          "http://localhost:8080/api/v1/orders/list",
+          `http://localhost:8080/api/v1/orders/list?page=${page}&size=20`,
           {
             method: "GET",
             credentials: "include",
@@ -35,6 +37,7 @@ export default function OrderListPage() {
 
         const data = await response.json();
         setOrders(data.data.orders);
+        setTotalPages(data.data.totalPages);
       } catch (error) {
         setError("관리자가 아닙니다.");
       } finally {
@@ -43,7 +46,7 @@ export default function OrderListPage() {
     }
 
     fetchOrders();
-  }, []);
+  }, [page]);
 
   return (
     <div className="container mx-auto p-6">
@@ -74,6 +77,25 @@ export default function OrderListPage() {
           ))}
         </tbody>
       </table>
+      <div className="flex justify-center items-center gap-4 mt-4">
+        <button
+          className="px-3 py-1 border rounded disabled:opacity-50"
+          disabled={page === 0}
+          onClick={() => setPage(page - 1)}
+        >
+          이전
+        </button>
+        <span>
+          {totalPages === 0 ? 0 : page + 1} / {totalPages}
+        </span>
+        <button
+          className="px-3 py-1 border rounded disabled:opacity-50"
+          disabled={page + 1 >= totalPages}
+          onClick={() => setPage(page + 1)}
+        >
+          다음
+        </button>
+      </div>
     </div>
   );
 }
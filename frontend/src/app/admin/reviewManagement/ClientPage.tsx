@@ -14,9 +14,12 @@ interface ReviewDto {
 export default function ReviewByItems() {
   const [reviews, setReviews] = useState<ReviewDto[]>([]);
   const [error, setError] = useState("");
+  const [nextCursor, setNextCursor] = useState<string | null>(null); // null이면 마지막 페이지
 
-  useEffect(() => {
-    fetch("http://localhost:8080/api/v1/items/reviews")
+  // 리뷰 목록 (커서 기반, cursor가 있으면 이어 붙임)
+  const fetchReviews = (cursor: string | null = null) => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : "";
+    fetch(`http://localhost:8080/api/v1/items/reviews${query}`)
       .then((response) => {
         if (!response.ok) {
           throw new Error("리뷰를 불러오는 데 실패했습니다.");
@@ -24,12 +27,18 @@ export default function ReviewByItems() {
         return response.json();
       })
       .then((data) => {
-        setReviews(data.data); // 백엔드에서 가져온 리뷰 데이터 설정
+        // 백엔드에서 가져온 리뷰 데이터 설정
+        setReviews((prev) => (cursor ? [...prev, ...data.data.reviews] : data.data.reviews));
+        setNextCursor(data.data.nextCursor);
       })
       .catch((error) => {
         console.error("Error fetching reviews:", error);
         setError("리뷰를 불러올 수 없습니다.");
       });
+  };
+
+  useEffect(() => {
+    fetchReviews();
   }, []);
 
   return (
@@ -55,6 +64,9 @@ export default function ReviewByItems() {
         ) : (
           <p>등록된 리뷰가 없습니다.</p>
         )}
+        {nextCursor && (
+          <Button onClick={() => fetchReviews(nextCursor)}>더 보기</Button>
+        )}
       </div>
     </div>
   );
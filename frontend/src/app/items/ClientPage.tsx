@@ -12,6 +12,7 @@ interface ItemDto {
   stockQuantity: number;
   description: string;
   imageUrl: string;
+  thumbnailUrl?: string; // 목록용 썸네일
 }
 
 // NoticeDto 객체 인터페이스 정의
@@ -153,7 +154,7 @@ export default function ItemsPage() {
                 <li className="border-2 border-gray-300 p-4 rounded-2xl h-[300px] hover:bg-gray-50 flex flex-col items-center justify-between relative">
                   {/* 상품 이미지 */}
                   <img
-                    src={item.imageUrl}
+                    src={item.thumbnailUrl ?? item.imageUrl}
                     alt={item.name}
                     className="w-full h-48 object-cover rounded-lg mb-4 shadow-lg"
                   />
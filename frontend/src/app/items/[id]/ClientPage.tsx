@@ -17,6 +17,7 @@ interface ItemDto {
   stockQuantity: number;
   description: string;
   imageUrl: string;
+  mediumUrl?: string; // 상세용 압축본
 }
 
 interface CartItem {
@@ -61,6 +62,9 @@ export default function ClientPage({ id }: { id: number }) {
   const [questions, setQuestions] = useState<QuestionDto[]>([]);
   const router = useRouter();
   const [reviews, setReviews] = useState<ReviewDto[]>([]);
+  const [reviewSort, setReviewSort] = useState<"newest" | "rating">("newest");
+  const [reviewCursor, setReviewCursor] = useState<string | null>(null); // null이면 마지막 페이지
+  const [reviewCount, setReviewCount] = useState(0);
 
   useEffect(() => {
     setLoading(true);
@@ -101,24 +105,38 @@ export default function ClientPage({ id }: { id: number }) {
     }
   }, [id, selectedTab]);
 
+  // 리뷰 목록 (커서 기반, cursor가 있으면 이어 붙임)
+  const fetchReviews = (cursor: string | null = null) => {
+    const query = new URLSearchParams({ sort: reviewSort });
+    if (cursor) {
+      query.set("cursor", cursor);
+    }
+    fetch(`http://localhost:8080/api/v1/items/${id}/reviews?${query}`)
+      .then((response) => {
+        if (!response.ok) {
+          throw new Error("리뷰를 불러오는 데 실패했습니다.");
+        }
+        return response.json();
+      })
+      .then((data) => {
+        setReviews((prev) => (cursor ? [...prev, ...data.data.reviews] : data.data.reviews));
+        setReviewCursor(data.data.nextCursor);
+      })
+      .catch((error) => {
+        console.error("Error fetching reviews:", error);
+        setError("리뷰를 불러올 수 없습니다.");
+      });
+  };
+
   useEffect(() => {
     if (selectedTab === "review") {
-      fetch(`http://localhost:8080/api/v1/items/${id}/reviews`)
-        .then((response) => {
-          if (!response.ok) {
-            throw new Error("리뷰를 불러오는 데 실패했습니다.");
-          }
-          return response.json();
-        })
-        .then((data) => {
-          setReviews(data.data);
-        })
-        .catch((error) => {
-          console.error("Error fetching reviews:", error);
-          setError("리뷰를 불러올 수 없습니다.");
-        });
+      fetchReviews();
+      fetch(`http://localhost:8080/api/v1/items/${id}/reviews/summary`)
+        .then((response) => response.json())
+        .then((data) => setReviewCount(data.data.reviewCount))
+        .catch((error) => console.error("Error fetching review summary:", error));
     }
-  }, [id, selectedTab]);
+  }, [id, selectedTab, reviewSort]);
 
   const increaseQuantity = () => {
     if (quantity < (item?.stockQuantity || 0)) {
@@ -229,7 +247,7 @@ export default function ClientPage({ id }: { id: number }) {
               whileHover={{ scale: 1.02 }}
           >
             <img
-                src={item.imageUrl}
+                src={item.mediumUrl ?? item.imageUrl}
                 alt={item.name}
                 className="object-contain w-full h-full transition-transform duration-500 group-hover:scale-105"
             />
@@ -334,7 +352,17 @@ export default function ClientPage({ id }: { id: number }) {
 
           {selectedTab === "review" && (
               <div className="space-y-6">
-                <h2 className="text-3xl font-bold">🧑💻 구매자 리뷰 ({reviews.length})</h2>
+                <div className="flex items-center justify-between">
+                  <h2 className="text-3xl font-bold">🧑💻 구매자 리뷰 ({reviewCount})</h2>
+                  <select
+                      value={reviewSort}
+                      onChange={(e) => setReviewSort(e.target.value as "newest" | "rating")}
+                      className="border rounded-lg px-3 py-2"
+                  >
+                    <option value="newest">최신순</option>
+                    <option value="rating">별점 높은 순</option>
+                  </select>
+                </div>
                 {reviews.map((review) => (
                     <motion.div
                         key={review.reviewId}
@@ -356,6 +384,11 @@ export default function ClientPage({ id }: { id: number }) {
                       </p>
                     </motion.div>
                 ))}
+                {reviewCursor && (
+                    <Button onClick={() => fetchReviews(reviewCursor)} className="w-full">
+                      더 보기
+                    </Button>
+                )}
               </div>
           )}
 
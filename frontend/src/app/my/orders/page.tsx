@@ -16,6 +16,12 @@ interface OrderDto {
     totalPrice: number;
 }
 
+// 주문 내역 페이지 응답 (nextCursor가 null이면 마지막 페이지)
+interface OrderPage {
+    orders: OrderDto[];
+    nextCursor: string | null;
+}
+
 // 애니메이션 화살표 컴포넌트
 const AnimatedArrow = () => {
     const controls = useAnimation();
@@ -55,37 +61,41 @@ const AnimatedArrow = () => {
 
 export default function OrdersPage({ params }: { params: { email: string } }) {
     const [orders, setOrders] = useState<OrderDto[]>([]);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
     const [loading, setLoading] = useState<boolean>(true);
     const [error, setError] = useState<string | null>(null);
     const router = useRouter();
 
-    useEffect(() => {
-        const fetchOrders = async () => {
-            try {
-                const res = await fetch("http://localhost:8080/api/my/orders", {
-                    method: "GET",
-                    credentials: "include",
-                    headers: { "Content-Type": "application/json" },
-                });
+    // 주문 내역 조회 (cursor가 있으면 다음 페이지를 이어 붙임)
+    const fetchOrders = async (cursor: string | null = null) => {
+        try {
+            const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : "";
+            const res = await fetch(`http://localhost:8080/api/my/orders${query}`, {
+                method: "GET",
+                credentials: "include",
+                headers: { "Content-Type": "application/json" },
+            });
 
-                if (!res.ok) {
-                    const errorData = await res.json();
-                    throw new Error(errorData.message || `HTTP error! status: ${res.status}`);
-                }
+            if (!res.ok) {
+                const errorData = await res.json();
+                throw new Error(errorData.message || `HTTP error! status: ${res.status}`);
+            }
 
-                const data: OrderDto[] = await res.json();
-                setOrders(data);
-            } catch (err: unknown) {
-                if (err instanceof Error) {
-                    setError(err.message);
-                } else {
-                    setError("알 수 없는 오류가 발생했습니다");
-                }
-            } finally {
-                setLoading(false);
+            const data: OrderPage = await res.json();
+            setOrders((prev) => (cursor ? [...prev, ...data.orders] : data.orders));
+            setNextCursor(data.nextCursor);
+        } catch (err: unknown) {
+            if (err instanceof Error) {
+                setError(err.message);
+            } else {
+                setError("알 수 없는 오류가 발생했습니다");
             }
-        };
+        } finally {
+            setLoading(false);
+        }
+    };
 
+    useEffect(() => {
         fetchOrders();
     }, [params.email]);
 
@@ -266,6 +276,15 @@ export default function OrdersPage({ params }: { params: { email: string } }) {
                   ))}
                 </div>
               )}
+
+              {nextCursor && (
+                <button
+                  onClick={() => fetchOrders(nextCursor)}
+                  className="mt-6 px-6 py-2 bg-blue-600 text-white rounded-lg hover:bg-blue-700 transition-colors"
+                >
+                  더 보기
+                </button>
+              )}
             </main>
           );
         }
\ No newline at end of file
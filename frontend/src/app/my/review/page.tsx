@@ -12,6 +12,7 @@ interface ReviewDetailDto {
     rating: number;
     createDate: string;
     imageUrl: string;
+    thumbnailUrl?: string; // 목록용 썸네일
 }
 
 // 작성 가능 리뷰 DTO
@@ -261,7 +262,8 @@ export default function ReviewsPage() {
                             ...review,
                             content: tempContent,
                             rating: tempRating,
-                            imageUrl: tempFile ? URL.createObjectURL(tempFile) : review.imageUrl
+                            imageUrl: tempFile ? URL.createObjectURL(tempFile) : review.imageUrl,
+                            thumbnailUrl: tempFile ? URL.createObjectURL(tempFile) : review.thumbnailUrl
                         }
                         : review
                 )
@@ -641,7 +643,7 @@ export default function ReviewsPage() {
                                                     {/* 이미지 영역 */}
                                                     {review.imageUrl && (
                                                         <img
-                                                            src={review.imageUrl}
+                                                            src={review.thumbnailUrl ?? review.imageUrl}
                                                             alt="리뷰 이미지"
                                                             className="w-[120px] h-[120px] object-cover rounded-lg border" // 기본 보기 모드에서 이미지 크기 확대
                                                         />
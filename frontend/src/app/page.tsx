@@ -15,6 +15,7 @@ interface ItemDto {
     stockQuantity: number;
     description: string;
     imageUrl: string;
+    thumbnailUrl?: string; // 목록용 썸네일
 }
 
 // NoticeDto 인터페이스 추가
@@ -153,7 +154,7 @@ export default function Home() {
                                 >
                                     <div className="border rounded-lg p-4 hover:shadow-xl transition-all duration-300 bg-white">
                                         <img
-                                            src={item.imageUrl}
+                                            src={item.thumbnailUrl ?? item.imageUrl}
                                             alt={item.name}
                                             className="w-full h-48 object-cover rounded-md mb-4"
                                         />